@@ -33,3 +33,28 @@ dependencies {
     testFixturesImplementation(libs.junit.jupiter)
     testFixturesImplementation(libs.assertJ)
 }
+
+// JMH benchmarks, run with: ./gradlew :dataplane-sdk-core:jmh -PjmhArgs="<jmh options>"
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.annprocess)
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks of the core module."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { resultFile.parentFile.mkdirs() }
+    args("-rf", "json", "-rff", resultFile.absolutePath)
+    (findProperty("jmhArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks the overhead of the {@link DataFlowMailbox} compared to unserialized execution. The number of distinct
+ * DataFlows determines the contention: with {@code flowCount=1} all threads operate on the same DataFlow and are
+ * serialized, with many DataFlows the threads rarely collide and should scale with the number of cores.
+ *
+ * <p>Run with e.g. {@code ./gradlew :dataplane-sdk-core:jmh -PjmhArgs="-t 16 -p flowCount=1,100000"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class DataFlowMailboxBenchmark {
+
+    @Param({ "1", "64", "100000" })
+    private int flowCount;
+
+    @Param({ "100" })
+    private int tokensPerOperation;
+
+    private DataFlowMailbox mailbox;
+    private String[] dataFlowIds;
+
+    @Setup
+    public void setUp() {
+        mailbox = new DataFlowMailbox();
+        dataFlowIds = IntStream.range(0, flowCount).mapToObj(i -> "flow-" + i).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Object serialized() {
+        var dataFlowId = dataFlowIds[ThreadLocalRandom.current().nextInt(flowCount)];
+        return mailbox.submit(dataFlowId, this::operation).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object unserialized() {
+        return operation().join();
+    }
+
+    private CompletableFuture<Integer> operation() {
+        Blackhole.consumeCPU(tokensPerOperation);
+        return CompletableFuture.completedFuture(tokensPerOperation);
+    }
+}
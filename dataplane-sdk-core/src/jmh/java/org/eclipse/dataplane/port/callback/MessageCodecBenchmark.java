@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.domain.DataAddress;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStatusMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Benchmarks building the body of a status notification: serializing to a String and publishing it with
+ * {@link HttpRequest.BodyPublishers#ofString(String)} as done previously, compared to the {@link MessageCodec} with a
+ * cached {@link com.fasterxml.jackson.databind.ObjectWriter} and with the hand-written encoder.
+ *
+ * <p>Run with e.g. {@code ./gradlew :dataplane-sdk-core:jmh -PjmhArgs="MessageCodecBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MessageCodec objectWriterCodec;
+    private MessageCodec streamingCodec;
+    private DataFlowStatusMessage message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().setDefaultPropertyInclusion(NON_NULL);
+        objectWriterCodec = new MessageCodec(objectMapper);
+        streamingCodec = MessageCodec.withDefaultEncoders(objectMapper);
+        var dataAddress = new DataAddress("HttpData", "http://localhost/data", List.of(new DataAddress.EndpointProperty("string", "authorization", "token")));
+        message = new DataFlowStatusMessage("flow", "STARTED", dataAddress, null);
+    }
+
+    @Benchmark
+    public Object stringBody() throws Exception {
+        var body = objectMapper.writeValueAsString(message);
+        return HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object objectWriter() {
+        return HttpRequest.BodyPublishers.ofByteArray(objectWriterCodec.encode(message).getContent());
+    }
+
+    @Benchmark
+    public Object streamingEncoder() {
+        return HttpRequest.BodyPublishers.ofByteArray(streamingCodec.encode(message).getContent());
+    }
+}
@@ -11,21 +11,29 @@
  *       Think-it GmbH - initial API and implementation
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - data flow properties
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - introduce DataFlowStatusMessage
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - lifecycle timeouts
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - recovery
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - metrics
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - tracing
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - flight recorder events
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - state change listeners
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - background callback delivery
  *
  */
 
 package org.eclipse.dataplane;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataplane.domain.DataAddress;
 import org.eclipse.dataplane.domain.Result;
 import org.eclipse.dataplane.domain.controlplane.ControlPlane;
 import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
 import org.eclipse.dataplane.domain.dataflow.DataFlowPrepareMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowResumeMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowStartMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowStartedNotificationMessage;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStateChanged;
 import org.eclipse.dataplane.domain.dataflow.DataFlowStatusMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowStatusResponseMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowSuspendMessage;
@@ -33,61 +41,126 @@ import org.eclipse.dataplane.domain.dataflow.DataFlowTerminateMessage;
 import org.eclipse.dataplane.domain.registration.Authorization;
 import org.eclipse.dataplane.domain.registration.ControlPlaneRegistrationMessage;
 import org.eclipse.dataplane.domain.registration.DataPlaneRegistrationMessage;
+import org.eclipse.dataplane.logic.AdmissionControl;
+import org.eclipse.dataplane.logic.DataFlowEventBus;
+import org.eclipse.dataplane.logic.DataFlowListener;
+import org.eclipse.dataplane.logic.DataFlowMailbox;
+import org.eclipse.dataplane.logic.DataFlowRecovery;
+import org.eclipse.dataplane.logic.HandlerExecution;
 import org.eclipse.dataplane.logic.OnCompleted;
+import org.eclipse.dataplane.logic.OnCompletedAsync;
 import org.eclipse.dataplane.logic.OnPrepare;
+import org.eclipse.dataplane.logic.OnPrepareAsync;
+import org.eclipse.dataplane.logic.OnRecover;
+import org.eclipse.dataplane.logic.OnRecoverAsync;
 import org.eclipse.dataplane.logic.OnResume;
+import org.eclipse.dataplane.logic.OnResumeAsync;
 import org.eclipse.dataplane.logic.OnStart;
+import org.eclipse.dataplane.logic.OnStartAsync;
 import org.eclipse.dataplane.logic.OnStarted;
+import org.eclipse.dataplane.logic.OnStartedAsync;
 import org.eclipse.dataplane.logic.OnSuspend;
+import org.eclipse.dataplane.logic.OnSuspendAsync;
 import org.eclipse.dataplane.logic.OnTerminate;
+import org.eclipse.dataplane.logic.OnTerminateAsync;
+import org.eclipse.dataplane.logic.TimingWheel;
+import org.eclipse.dataplane.port.callback.CallbackCoalescer;
+import org.eclipse.dataplane.port.callback.CallbackDispatcher;
+import org.eclipse.dataplane.port.callback.CallbackFailureListener;
+import org.eclipse.dataplane.port.callback.CallbackTransport;
+import org.eclipse.dataplane.port.callback.MessageCodec;
 import org.eclipse.dataplane.port.exception.AuthorizationNotSupported;
 import org.eclipse.dataplane.port.exception.ControlPlaneNotRegistered;
 import org.eclipse.dataplane.port.exception.DataFlowNotifyControlPlaneFailed;
 import org.eclipse.dataplane.port.exception.DataplaneNotRegistered;
+import org.eclipse.dataplane.port.exception.IllegalStateTransition;
 import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
 import org.eclipse.dataplane.port.exception.UnauthorizedException;
+import org.eclipse.dataplane.port.jfr.CallbackEvent;
+import org.eclipse.dataplane.port.jfr.HandlerEvent;
+import org.eclipse.dataplane.port.jfr.RecordedDataFlowStore;
+import org.eclipse.dataplane.port.jfr.SignalingEvent;
+import org.eclipse.dataplane.port.metrics.DataplaneMetrics;
+import org.eclipse.dataplane.port.metrics.MeteredDataFlowStore;
 import org.eclipse.dataplane.port.store.ControlPlaneStore;
 import org.eclipse.dataplane.port.store.DataFlowStore;
 import org.eclipse.dataplane.port.store.InMemoryControlPlaneStore;
 import org.eclipse.dataplane.port.store.InMemoryDataFlowStore;
+import org.eclipse.dataplane.port.store.InMemoryProcessedMessageStore;
+import org.eclipse.dataplane.port.store.ProcessedMessageStore;
 import org.eclipse.dataplane.port.store.Stores;
+import org.eclipse.dataplane.port.tracing.Span;
+import org.eclipse.dataplane.port.tracing.SpanKind;
+import org.eclipse.dataplane.port.tracing.TracedDataFlowStore;
+import org.eclipse.dataplane.port.tracing.Tracing;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 public class Dataplane {
 
     private final ObjectMapper objectMapper = new ObjectMapper()
             .configure(FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setDefaultPropertyInclusion(NON_NULL);
+    private final MessageCodec messageCodec = MessageCodec.withDefaultEncoders(objectMapper);
     private DataFlowStore dataFlowStore = new InMemoryDataFlowStore(objectMapper);
     private ControlPlaneStore controlPlaneStore = new InMemoryControlPlaneStore(objectMapper);
+    private ProcessedMessageStore processedMessageStore = new InMemoryProcessedMessageStore(Duration.ofMinutes(10), 10_000);
     private String id;
     private URI endpoint;
     private final Set<String> transferTypes = new HashSet<>();
     private final Set<String> labels = new HashSet<>();
 
-    private OnPrepare onPrepare = dataFlow -> Result.failure(new UnsupportedOperationException("onPrepare is not implemented"));
-    private OnStart onStart = dataFlow -> Result.failure(new UnsupportedOperationException("onStart is not implemented"));
-    private OnTerminate onTerminate = dataFlow -> Result.failure(new UnsupportedOperationException("onTerminate is not implemented"));
-    private OnSuspend onSuspend = dataFlow -> Result.failure(new UnsupportedOperationException("onSuspend is not implemented"));
-    private OnResume onResume = dataFlow -> Result.failure(new UnsupportedOperationException("onResume is not implemented"));
-    private OnStarted onStarted = dataFlow -> Result.failure(new UnsupportedOperationException("onStarted is not implemented"));
-    private OnCompleted onCompleted = dataFlow -> Result.failure(new UnsupportedOperationException("onCompleted is not implemented"));
-
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private OnPrepareAsync onPrepare = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onPrepare is not implemented")));
+    private OnStartAsync onStart = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onStart is not implemented")));
+    private OnTerminateAsync onTerminate = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onTerminate is not implemented")));
+    private OnSuspendAsync onSuspend = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onSuspend is not implemented")));
+    private OnResumeAsync onResume = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onResume is not implemented")));
+    private OnStartedAsync onStarted = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onStarted is not implemented")));
+    private OnCompletedAsync onCompleted = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onCompleted is not implemented")));
+    private OnRecoverAsync onRecover = dataFlow -> completedFuture(Result.failure(new UnsupportedOperationException("onRecover is not implemented")));
+    private HandlerExecution handlerExecution = HandlerExecution.callerThread();
+    private DataFlowRecovery recovery = DataFlowRecovery.newInstance().build();
+    private DataplaneMetrics metrics = new DataplaneMetrics();
+    private Tracing tracing = Tracing.noop();
+    private DataFlowEventBus eventBus = DataFlowEventBus.newInstance().build();
+    private AdmissionControl admissionControl = AdmissionControl.newInstance().build();
+    private final DataFlowMailbox dataFlowMailbox = new DataFlowMailbox();
+    private final ThreadLocal<Set<String>> handledDataFlows = ThreadLocal.withInitial(HashSet::new);
+    private CallbackDispatcher callbackDispatcher;
+    private CallbackCoalescer callbackCoalescer;
+    private CallbackFailureListener callbackFailureListener = (dataFlowId, action, exception) -> { };
+    private final Map<DataFlow.State, Duration> stateTimeouts = new EnumMap<>(DataFlow.State.class);
+    private final Map<String, Deadline> deadlines = new ConcurrentHashMap<>();
+    private TimingWheel timingWheel;
+
+    private CallbackTransport callbackTransport = CallbackTransport.newInstance().build();
     private final Map<String, Authorization> authorizations = new HashMap<>();
+    private final Map<String, Authorization> authorizationsByScheme = new HashMap<>();
+    private final List<Authorization> authorizationsWithoutScheme = new ArrayList<>();
 
     public static Builder newInstance() {
         return new Builder();
@@ -97,13 +170,312 @@ public class Dataplane {
         return dataFlowStore.findById(dataFlowId);
     }
 
+    /**
+     * Saves the data flow without publishing a {@link DataFlowStateChanged} event, as its previous state is not known
+     * here and reading it would cost an extra store round-trip. Use {@link #save(DataFlow, DataFlow.State)} to have
+     * the state change published.
+     *
+     * @param dataFlow the data flow
+     * @return the result of the save
+     */
     public Result<Void> save(DataFlow dataFlow) {
-        return dataFlowStore.save(dataFlow);
+        return dataFlowStore.save(dataFlow).onSuccess(v -> updateDeadline(dataFlow));
+    }
+
+    /**
+     * Saves the data flow and publishes a {@link DataFlowStateChanged} event if its state differs from the given
+     * previous one, so that saves in the same state, e.g. of a recovered data flow, are not published.
+     *
+     * @param dataFlow the data flow
+     * @param previousState the state the data flow was stored in before, null if it was not stored yet
+     * @return the result of the save
+     */
+    public Result<Void> save(DataFlow dataFlow, DataFlow.State previousState) {
+        return dataFlowStore.save(dataFlow).onSuccess(v -> {
+            updateDeadline(dataFlow);
+            if (dataFlow.getState() != previousState && eventBus.hasListeners()) {
+                eventBus.publish(DataFlowStateChanged.of(dataFlow, previousState));
+            }
+        });
+    }
+
+    /**
+     * Subscribes the listener to the state changes of all data flows, which are published once a data flow has been
+     * saved. Listeners are called asynchronously by the {@link DataFlowEventBus}, events are dropped if they don't keep up.
+     *
+     * @param listener the listener
+     */
+    public void subscribe(DataFlowListener listener) {
+        eventBus.subscribe(listener);
+    }
+
+    public void unsubscribe(DataFlowListener listener) {
+        eventBus.unsubscribe(listener);
+    }
+
+    /**
+     * Retrieves the data flows that changed since the given watermark, e.g. for incrementally syncing
+     * downstream systems. See {@link DataFlowStore#findChangedSince(long, int)}.
+     *
+     * @param watermark the watermark returned by the previous call, 0 to start from the beginning
+     * @param limit the maximum number of data flows to return
+     * @return the changed data flows and the watermark for the next call
+     */
+    public Result<DataFlowChanges> changesSince(long watermark, int limit) {
+        return dataFlowStore.findChangedSince(watermark, limit);
+    }
+
+    /**
+     * Recovers the data flows that are neither completed nor terminated, e.g. at startup, by passing each one to the
+     * {@link OnRecover} handler and saving the returned data flow. The data flows are recovered in parallel as
+     * configured by the {@link DataFlowRecovery}. The recovery runs only once, further calls return the same stage.
+     *
+     * <p>The data flows are read from {@link DataFlowStore#findNonTerminal(String, int)} in the order of their ids,
+     * so data flows created while the recovery is running may be missed, and it should complete before the
+     * dataplane accepts requests, see {@link #isReady()}.
+     *
+     * @return a stage completing with the report once all data flows have been recovered, it never completes exceptionally
+     */
+    public CompletionStage<Result<DataFlowRecovery.Report>> recover() {
+        return recovery.run(dataFlowStore::findNonTerminal, dataFlow -> observe("recover", dataFlow.getId(), operation -> submit(operation, dataFlow.getId(), () -> findById(operation, dataFlow.getId())
+                .composeAsync(current -> {
+                    if (current.getState() == DataFlow.State.COMPLETED || current.getState() == DataFlow.State.TERMINATED) {
+                        return completedFuture(Result.success());
+                    }
+                    return execute(operation, "onRecover", current, onRecover::action)
+                            .thenApply(result -> result.compose(recovered -> save(operation, recovered)));
+                }))));
+    }
+
+    /**
+     * Returns whether the recovery started by {@link #recover()} has finished, e.g. for a readiness probe.
+     *
+     * @return true, if the recovery finished
+     */
+    public boolean isReady() {
+        return recovery.isReady();
     }
 
     public Result<DataFlowStatusResponseMessage> status(String dataFlowId) {
-        return dataFlowStore.findById(dataFlowId)
-                .map(f -> new DataFlowStatusResponseMessage(f.getId(), f.getState().name()));
+        return metrics.operation("status").time(() -> dataFlowStore.findById(dataFlowId)
+                .map(f -> new DataFlowStatusResponseMessage(f.getId(), f.getState().name())));
+    }
+
+    public DataplaneMetrics metrics() {
+        return metrics;
+    }
+
+    public Tracing tracing() {
+        return tracing;
+    }
+
+    public DataFlowEventBus eventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Runs a signaling operation in a span, which is current while the operation is submitted, and records its metrics.
+     * The {@link Operation} is passed to the steps of the operation, so that they take part in its span and event even
+     * when they run on other threads or concurrently with another operation on the same data flow.
+     * If enabled, a {@link SignalingEvent} is emitted, which takes the attributes of the data flow saved by the operation.
+     */
+    private <T> CompletionStage<Result<T>> observe(String operation, String dataFlowId, Function<Operation, CompletionStage<Result<T>>> supplier) {
+        var event = new SignalingEvent(operation, dataFlowId);
+        if (event.isEnabled()) {
+            event.begin();
+        }
+
+        var span = tracing.startSpan("dataplane " + operation, SpanKind.INTERNAL).attribute("dataflow.id", dataFlowId);
+        var scope = span.makeCurrent();
+        try {
+            var stage = endOnCompletion(span, metrics.operation(operation).timeAsync(() -> supplier.apply(new Operation(span, event))));
+            return event.endOnCompletion(stage);
+        } catch (RuntimeException e) {
+            span.end(e);
+            throw e;
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Submits the task to the mailbox of the data flow with the operation span current, as the task runs on the
+     * thread completing the previous task of the data flow if that one is still running. If called from a handler of
+     * the data flow, e.g. {@link #notifyErrored(String, Throwable)} from within {@link OnStart}, the task runs right
+     * away as part of the handler's operation, which would otherwise wait for a task queued behind itself.
+     */
+    private <T> CompletionStage<T> submit(Operation operation, String dataFlowId, Supplier<? extends CompletionStage<T>> task) {
+        if (handledDataFlows.get().contains(dataFlowId)) {
+            try {
+                return inSpan(operation.span(), task);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return dataFlowMailbox.submit(dataFlowId, () -> inSpan(operation.span(), task));
+    }
+
+    /**
+     * Executes the handler in a span that is a child of the operation span. The returned stage completes with the
+     * operation span current, so that continuations like saving the data flow are traced as part of the operation,
+     * even if the handler completes on another thread.
+     */
+    private CompletionStage<Result<DataFlow>> execute(Operation operation, String handler, DataFlow dataFlow, Function<DataFlow, CompletionStage<Result<DataFlow>>> action) {
+        var span = inSpan(operation.span(), () -> tracing.startSpan("handler " + handler, SpanKind.INTERNAL).attribute("dataflow.id", dataFlow.getId()));
+        var stage = endOnCompletion(span, metrics.handler(handler).timeAsync(() -> handlerExecution.execute(handler, dataFlow, it -> {
+            var event = new HandlerEvent(handler).begin(it);
+            var scope = span.makeCurrent();
+            var handled = handledDataFlows.get().add(it.getId());
+            try {
+                return event.endOnCompletion(action.apply(it));
+            } finally {
+                if (handled) {
+                    handledDataFlows.get().remove(it.getId());
+                }
+                scope.close();
+            }
+        })));
+
+        var resumed = new CompletableFuture<Result<DataFlow>>();
+        stage.whenComplete((result, throwable) -> inSpan(operation.span(), () -> throwable == null ? resumed.complete(result) : resumed.completeExceptionally(throwable)));
+        return resumed;
+    }
+
+    private static <T> T inSpan(Span span, Supplier<T> supplier) {
+        var scope = span.makeCurrent();
+        try {
+            return supplier.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Saves the data flow of the operation. Operations that did not read it before, like prepare and start, have no
+     * previous state, so the data flow is published as a new one.
+     */
+    private Result<Void> save(Operation operation, DataFlow dataFlow) {
+        operation.describe(dataFlow);
+        return save(dataFlow, operation.previousState());
+    }
+
+    /**
+     * Reads the data flow for the operation, which remembers its state as the previous state of the operation's save.
+     */
+    private Result<DataFlow> findById(Operation operation, String dataFlowId) {
+        return dataFlowStore.findById(dataFlowId).onSuccess(operation::read);
+    }
+
+    private static <T> CompletionStage<Result<T>> endOnCompletion(Span span, CompletionStage<Result<T>> stage) {
+        return stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                span.end(throwable instanceof Exception exception ? exception : new CompletionException(throwable));
+            } else {
+                span.end(result.failed() ? result.getException() : null);
+            }
+        });
+    }
+
+    private Result<DataFlow> checkTransition(DataFlow dataFlow, DataFlow.State target) {
+        if (dataFlow.getState().canTransitionTo(target)) {
+            return Result.success(dataFlow);
+        }
+        return Result.failure(new IllegalStateTransition(dataFlow.getId(), dataFlow.getState(), target));
+    }
+
+    /**
+     * Schedules the deadline of the state the data flow has been saved in, if one is configured, and cancels the
+     * deadline of the previous state.
+     */
+    private void updateDeadline(DataFlow dataFlow) {
+        if (stateTimeouts.isEmpty()) {
+            return;
+        }
+
+        var state = dataFlow.getState();
+        var timeout = stateTimeouts.get(state);
+        if (timeout == null) {
+            var previous = deadlines.remove(dataFlow.getId());
+            if (previous != null) {
+                previous.timeout().cancel();
+            }
+            return;
+        }
+
+        deadlines.compute(dataFlow.getId(), (id, previous) -> {
+            if (previous != null) {
+                if (previous.state() == state) {
+                    return previous;
+                }
+                previous.timeout().cancel();
+            }
+            return new Deadline(state, timingWheel.schedule(() -> expire(id, state, timeout), timeout));
+        });
+    }
+
+    /**
+     * Terminates the data flow and notifies the control plane if the data flow is still in the state whose deadline
+     * expired. The termination is saved before notifying, so it holds even if the control plane is unreachable.
+     */
+    private void expire(String dataFlowId, DataFlow.State state, Duration timeout) {
+        deadlines.computeIfPresent(dataFlowId, (id, deadline) -> deadline.state() == state && deadline.timeout().isExpired() ? null : deadline);
+        dataFlowMailbox.submit(dataFlowId, () -> dataFlowStore.findById(dataFlowId)
+                .composeAsync(dataFlow -> {
+                    if (dataFlow.getState() != state) {
+                        return completedFuture(Result.success());
+                    }
+
+                    var error = new TimeoutException("DataFlow %s did not leave state %s within %s".formatted(dataFlowId, state, timeout));
+                    dataFlow.transitionToTerminated(error.getMessage());
+                    var message = new DataFlowStatusMessage(dataFlowId, dataFlow.getState().name(), null, error.getMessage());
+
+                    return save(dataFlow, state).composeAsync(v -> notifyControlPlane("errored", dataFlow, message, Result::success));
+                }));
+    }
+
+    /**
+     * Runs the operation if the control plane is admitted by the {@link AdmissionControl}, before any store access.
+     */
+    private <T> CompletionStage<Result<T>> admit(String controlplaneId, Supplier<CompletionStage<Result<T>>> operation) {
+        var admission = admissionControl.acquire(controlplaneId);
+        if (admission.failed()) {
+            return completedFuture(Result.failure(admission.getException()));
+        }
+
+        var permit = admission.getContent();
+        try {
+            return operation.get().whenComplete((result, throwable) -> permit.release());
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Answers a retried message with the response to its first processing, without running the operation again.
+     */
+    private CompletionStage<Result<DataFlowStatusMessage>> deduplicate(String dataFlowId, String messageId, Supplier<CompletionStage<Result<DataFlowStatusMessage>>> operation) {
+        if (messageId == null) {
+            return operation.get();
+        }
+
+        return replay(dataFlowId, messageId, () -> operation.get()
+                .thenApply(result -> result.onSuccess(response -> processedMessageStore.save(dataFlowId, messageId, response))));
+    }
+
+    /**
+     * Answers an already processed message before it is admitted, so that retries are not limited by the
+     * {@link AdmissionControl}. Retries arriving while the message is still processed are answered by
+     * {@link #deduplicate(String, String, Supplier)} once it has been processed.
+     */
+    private CompletionStage<Result<DataFlowStatusMessage>> replay(String dataFlowId, String messageId, Supplier<CompletionStage<Result<DataFlowStatusMessage>>> operation) {
+        if (messageId != null) {
+            var processed = processedMessageStore.find(dataFlowId, messageId);
+            if (processed.succeeded()) {
+                return completedFuture(processed);
+            }
+        }
+        return operation.get();
     }
 
     private Result<Void> checkControlPlane(String controlplaneId) {
@@ -114,6 +486,17 @@ public class Dataplane {
     }
 
     public Result<DataFlowStatusMessage> prepare(String controlplaneId, DataFlowPrepareMessage message) {
+        return await(prepareAsync(controlplaneId, message));
+    }
+
+    /**
+     * Asynchronous variant of {@link #prepare(String, DataFlowPrepareMessage)}.
+     *
+     * @param controlplaneId the id of the calling control plane
+     * @param message the prepare message
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<DataFlowStatusMessage>> prepareAsync(String controlplaneId, DataFlowPrepareMessage message) {
         var initialDataFlow = DataFlow.newInstance()
                 .id(message.processId())
                 .state(DataFlow.State.INITIATING)
@@ -130,9 +513,11 @@ public class Dataplane {
                 .type(DataFlow.Type.CONSUMER)
                 .build();
 
-        return checkControlPlane(controlplaneId)
-                .compose(v -> onPrepare.action(initialDataFlow))
-                .compose(dataFlow -> {
+        callbackTransport.warmUp(controlplaneId, message.callbackAddress());
+
+        return observe("prepare", message.processId(), operation -> replay(message.processId(), message.messageId(), () -> admit(controlplaneId, () -> submit(operation, message.processId(), () -> deduplicate(message.processId(), message.messageId(), () -> checkControlPlane(controlplaneId)
+                .composeAsync(v -> execute(operation, "onPrepare", initialDataFlow, onPrepare::action))
+                .thenApply(result -> result.compose(dataFlow -> {
                     if (dataFlow.isInitiating()) {
                         dataFlow.transitionToPrepared();
                     }
@@ -144,12 +529,22 @@ public class Dataplane {
                         response = new DataFlowStatusMessage(dataFlow.getId(), initialDataFlow.getState().name(), null, null);
                     }
 
-                    return save(dataFlow).map(it -> response);
-                });
+                    return save(operation, dataFlow).map(it -> response);
+                })))))));
     }
 
-
     public Result<DataFlowStatusMessage> start(String controlplaneId, DataFlowStartMessage message) {
+        return await(startAsync(controlplaneId, message));
+    }
+
+    /**
+     * Asynchronous variant of {@link #start(String, DataFlowStartMessage)}.
+     *
+     * @param controlplaneId the id of the calling control plane
+     * @param message the start message
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<DataFlowStatusMessage>> startAsync(String controlplaneId, DataFlowStartMessage message) {
         var initialDataFlow = DataFlow.newInstance()
                 .id(message.processId())
                 .state(DataFlow.State.INITIATING)
@@ -165,9 +560,11 @@ public class Dataplane {
                 .type(DataFlow.Type.PROVIDER)
                 .build();
 
-        return checkControlPlane(controlplaneId)
-                .compose(v -> onStart.action(initialDataFlow))
-                .compose(dataFlow -> {
+        callbackTransport.warmUp(controlplaneId, message.callbackAddress());
+
+        return observe("start", message.processId(), operation -> replay(message.processId(), message.messageId(), () -> admit(controlplaneId, () -> submit(operation, message.processId(), () -> deduplicate(message.processId(), message.messageId(), () -> checkControlPlane(controlplaneId)
+                .composeAsync(v -> execute(operation, "onStart", initialDataFlow, onStart::action))
+                .thenApply(result -> result.compose(dataFlow -> {
                     if (dataFlow.isInitiating()) {
                         dataFlow.transitionToStarted();
                     }
@@ -178,49 +575,83 @@ public class Dataplane {
                     } else {
                         response = new DataFlowStatusMessage(dataFlow.getId(), dataFlow.getState().name(), null, null);
                     }
-                    return save(dataFlow).map(it -> response);
-                });
+                    return save(operation, dataFlow).map(it -> response);
+                })))))));
     }
 
     public Result<Void> suspend(String flowId, DataFlowSuspendMessage message) {
-        return dataFlowStore.findById(flowId)
+        return await(suspendAsync(flowId, message));
+    }
+
+    /**
+     * Asynchronous variant of {@link #suspend(String, DataFlowSuspendMessage)}.
+     *
+     * @param flowId the data flow id
+     * @param message the suspend message
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> suspendAsync(String flowId, DataFlowSuspendMessage message) {
+        return observe("suspend", flowId, operation -> submit(operation, flowId, () -> findById(operation, flowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.SUSPENDED))
                 .map(dataFlow -> {
                     dataFlow.transitionToSuspended(message.reason());
                     return dataFlow;
                 })
-                .compose(onSuspend::action)
-                .compose(dataFlowStore::save)
-                .map(it -> null);
+                .composeAsync(dataFlow -> execute(operation, "onSuspend", dataFlow, onSuspend::action))
+                .thenApply(result -> result.compose(dataFlow -> save(operation, dataFlow)))));
     }
 
     public Result<DataFlowStatusMessage> resume(String flowId, DataFlowResumeMessage message) {
-        return dataFlowStore.findById(flowId)
+        return await(resumeAsync(flowId, message));
+    }
+
+    /**
+     * Asynchronous variant of {@link #resume(String, DataFlowResumeMessage)}.
+     *
+     * @param flowId the data flow id
+     * @param message the resume message
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<DataFlowStatusMessage>> resumeAsync(String flowId, DataFlowResumeMessage message) {
+        return observe("resume", flowId, operation -> submit(operation, flowId, () -> findById(operation, flowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.STARTED))
                 .map(dataFlow -> {
                     if (message.dataAddress() != null) {
                         dataFlow.setDataAddress(message.dataAddress());
                     }
                     return dataFlow;
                 })
-                .compose(onResume::action)
-                .compose(dataFlow -> {
+                .composeAsync(dataFlow -> execute(operation, "onResume", dataFlow, onResume::action))
+                .thenApply(result -> result.compose(dataFlow -> {
                     dataFlow.transitionToStarted();
 
                     var dataAddress = getDataAddressForResume(dataFlow);
                     var response = new DataFlowStatusMessage(flowId, dataFlow.getState().name(), dataAddress, null);
 
-                    return save(dataFlow).map(it -> response);
-                });
+                    return save(operation, dataFlow).map(it -> response);
+                }))));
     }
 
     public Result<Void> terminate(String dataFlowId, DataFlowTerminateMessage message) {
-        return dataFlowStore.findById(dataFlowId)
+        return await(terminateAsync(dataFlowId, message));
+    }
+
+    /**
+     * Asynchronous variant of {@link #terminate(String, DataFlowTerminateMessage)}.
+     *
+     * @param dataFlowId the data flow id
+     * @param message the terminate message
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> terminateAsync(String dataFlowId, DataFlowTerminateMessage message) {
+        return observe("terminate", dataFlowId, operation -> submit(operation, dataFlowId, () -> findById(operation, dataFlowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.TERMINATED))
                 .map(dataFlow -> {
                     dataFlow.transitionToTerminated(message.reason());
                     return dataFlow;
                 })
-                .compose(onTerminate::action)
-                .compose(dataFlowStore::save)
-                .map(it -> null);
+                .composeAsync(dataFlow -> execute(operation, "onTerminate", dataFlow, onTerminate::action))
+                .thenApply(result -> result.compose(dataFlow -> save(operation, dataFlow)))));
     }
 
     /**
@@ -229,15 +660,26 @@ public class Dataplane {
      * @param dataFlowId the data flow id.
      */
     public Result<Void> notifyPrepared(String dataFlowId, OnPrepare onPrepare) {
-        return dataFlowStore.findById(dataFlowId)
-                .compose(onPrepare::action)
-                .compose(dataFlow -> {
+        return await(notifyPreparedAsync(dataFlowId, OnPrepareAsync.of(onPrepare)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #notifyPrepared(String, OnPrepare)}.
+     *
+     * @param dataFlowId the data flow id.
+     * @param onPrepare the logic completing the preparation
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> notifyPreparedAsync(String dataFlowId, OnPrepareAsync onPrepare) {
+        return observe("notifyPrepared", dataFlowId, operation -> submit(operation, dataFlowId, () -> findById(operation, dataFlowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.PREPARED))
+                .composeAsync(dataFlow -> execute(operation, "onPrepare", dataFlow, onPrepare::action))
+                .thenCompose(result -> result.composeAsync(dataFlow -> {
                     dataFlow.transitionToPrepared();
                     var message = new DataFlowStatusMessage(dataFlowId, dataFlow.getState().name(), dataFlow.getDataAddress(), null);
 
-                    return notifyControlPlane("prepared", dataFlow, message);
-
-                });
+                    return notifyControlPlane(operation, "prepared", dataFlow, message);
+                }))));
     }
 
     /**
@@ -246,16 +688,27 @@ public class Dataplane {
      * @param dataFlowId the data flow id.
      */
     public Result<Void> notifyStarted(String dataFlowId, OnStart onStart) {
-        return dataFlowStore.findById(dataFlowId)
-                .compose(onStart::action)
-                .compose(dataFlow -> {
+        return await(notifyStartedAsync(dataFlowId, OnStartAsync.of(onStart)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #notifyStarted(String, OnStart)}.
+     *
+     * @param dataFlowId the data flow id.
+     * @param onStart the logic completing the start
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> notifyStartedAsync(String dataFlowId, OnStartAsync onStart) {
+        return observe("notifyStarted", dataFlowId, operation -> submit(operation, dataFlowId, () -> findById(operation, dataFlowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.STARTED))
+                .composeAsync(dataFlow -> execute(operation, "onStart", dataFlow, onStart::action))
+                .thenCompose(result -> result.composeAsync(dataFlow -> {
                     dataFlow.transitionToStarted();
 
                     var message = new DataFlowStatusMessage(dataFlowId, dataFlow.getState().name(), dataFlow.getDataAddress(), null);
 
-                    return notifyControlPlane("started", dataFlow, message);
-
-                });
+                    return notifyControlPlane(operation, "started", dataFlow, message);
+                }))));
     }
 
     /**
@@ -264,12 +717,23 @@ public class Dataplane {
      * @param dataFlowId id of the data flow
      */
     public Result<Void> notifyCompleted(String dataFlowId) {
-        return dataFlowStore.findById(dataFlowId)
-                .compose(dataFlow -> {
+        return await(notifyCompletedAsync(dataFlowId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #notifyCompleted(String)}.
+     *
+     * @param dataFlowId id of the data flow
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> notifyCompletedAsync(String dataFlowId) {
+        return observe("notifyCompleted", dataFlowId, operation -> submit(operation, dataFlowId, () -> findById(operation, dataFlowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.COMPLETED))
+                .composeAsync(dataFlow -> {
                     dataFlow.transitionToCompleted();
                     var message = new DataFlowStatusMessage(dataFlowId, dataFlow.getState().name(), null, null);
-                    return notifyControlPlane("completed", dataFlow, message);
-                });
+                    return notifyControlPlane(operation, "completed", dataFlow, message);
+                })));
     }
 
     /**
@@ -279,27 +743,51 @@ public class Dataplane {
      * @param throwable  the error
      */
     public Result<Void> notifyErrored(String dataFlowId, Throwable throwable) {
-        return dataFlowStore.findById(dataFlowId)
-                .compose(dataFlow -> {
+        return await(notifyErroredAsync(dataFlowId, throwable));
+    }
+
+    /**
+     * Asynchronous variant of {@link #notifyErrored(String, Throwable)}.
+     *
+     * @param dataFlowId id of the data flow
+     * @param throwable  the error
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> notifyErroredAsync(String dataFlowId, Throwable throwable) {
+        return observe("notifyErrored", dataFlowId, operation -> submit(operation, dataFlowId, () -> findById(operation, dataFlowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.TERMINATED))
+                .composeAsync(dataFlow -> {
                     dataFlow.transitionToTerminated(throwable.getMessage());
 
                     var message = new DataFlowStatusMessage(dataFlowId, dataFlow.getState().name(), null, throwable.getMessage());
 
-                    return notifyControlPlane("errored", dataFlow, message);
-                });
+                    return notifyControlPlane(operation, "errored", dataFlow, message);
+                })));
     }
 
     public Result<Void> started(String flowId, DataFlowStartedNotificationMessage startedNotificationMessage) {
-        return dataFlowStore.findById(flowId)
+        return await(startedAsync(flowId, startedNotificationMessage));
+    }
+
+    /**
+     * Asynchronous variant of {@link #started(String, DataFlowStartedNotificationMessage)}.
+     *
+     * @param flowId id of the data flow
+     * @param startedNotificationMessage the started notification
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> startedAsync(String flowId, DataFlowStartedNotificationMessage startedNotificationMessage) {
+        return observe("started", flowId, operation -> submit(operation, flowId, () -> findById(operation, flowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.STARTED))
                 .map(dataFlow -> {
                     dataFlow.setDataAddress(startedNotificationMessage.dataAddress());
                     return dataFlow;
                 })
-                .compose(onStarted::action)
-                .compose(dataFlow -> {
+                .composeAsync(dataFlow -> execute(operation, "onStarted", dataFlow, onStarted::action))
+                .thenApply(result -> result.compose(dataFlow -> {
                     dataFlow.transitionToStarted();
-                    return save(dataFlow);
-                });
+                    return save(operation, dataFlow);
+                }))));
     }
 
     /**
@@ -309,15 +797,49 @@ public class Dataplane {
      * @return result indicating whether data flow was completed successfully
      */
     public Result<Void> completed(String flowId) {
-        return dataFlowStore.findById(flowId).compose(onCompleted::action)
-                .compose(dataFlow -> {
+        return await(completedAsync(flowId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #completed(String)}.
+     *
+     * @param flowId id of the data flow
+     * @return a stage completing with the result, it never completes exceptionally
+     */
+    public CompletionStage<Result<Void>> completedAsync(String flowId) {
+        return observe("completed", flowId, operation -> submit(operation, flowId, () -> findById(operation, flowId)
+                .compose(dataFlow -> checkTransition(dataFlow, DataFlow.State.COMPLETED))
+                .composeAsync(dataFlow -> execute(operation, "onCompleted", dataFlow, onCompleted::action))
+                .thenApply(result -> result.compose(dataFlow -> {
                     dataFlow.transitionToCompleted();
-                    return save(dataFlow);
-                });
+                    return save(operation, dataFlow);
+                }))));
     }
 
+    /**
+     * Extracts the id of the calling control plane from an Authorization header. The header is handed to the
+     * {@link Authorization} registered for its scheme, falling back to those not declaring a scheme.
+     *
+     * @param authorizationHeader the authorization header
+     * @return a successful result containing the control plane id, or a failed result if no authorization accepts the header
+     */
     public Result<String> extractControlplaneId(String authorizationHeader) {
-        return authorizations.values().stream()
+        if (authorizationHeader == null) {
+            return Result.failure(new UnauthorizedException("Authorization header missing"));
+        }
+
+        var separator = authorizationHeader.indexOf(' ');
+        if (separator > 0) {
+            var authorization = authorizationsByScheme.get(authorizationHeader.substring(0, separator).toLowerCase(Locale.ROOT));
+            if (authorization != null) {
+                var callerId = authorization.extractCallerId(authorizationHeader);
+                if (callerId.succeeded() || authorizationsWithoutScheme.isEmpty()) {
+                    return callerId;
+                }
+            }
+        }
+
+        return authorizationsWithoutScheme.stream()
                 .map(authorization -> authorization.extractCallerId(authorizationHeader))
                 .filter(Result::succeeded).findFirst()
                 .orElseGet(() -> Result.failure(new UnauthorizedException("Authorization method not recognized")));
@@ -326,22 +848,26 @@ public class Dataplane {
     public Result<Void> registerOn(String controlPlaneEndpoint) {
 
         var message = new DataPlaneRegistrationMessage(id, endpoint, transferTypes, labels);
+        var span = tracing.startSpan("dataplane registerOn", SpanKind.CLIENT);
 
-        return toJson(message)
-                .map(body -> HttpRequest.newBuilder()
-                        .uri(URI.create(controlPlaneEndpoint + "/dataplanes"))
-                        .header("content-type", "application/json")
-                        .PUT(HttpRequest.BodyPublishers.ofString(body))
-                        .build()
-                )
+        Result<Void> result = messageCodec.encode(message)
+                .map(body -> {
+                    var requestBuilder = callbackTransport.request(URI.create(controlPlaneEndpoint + "/dataplanes"))
+                            .header("content-type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofByteArray(body));
+                    span.inject(requestBuilder::header);
+                    return requestBuilder.build();
+                })
                 .compose(request -> {
-                    var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    var response = callbackTransport.client(null).send(request, HttpResponse.BodyHandlers.ofString());
                     if (response.statusCode() == 200) {
                         return Result.success();
                     } else {
                         return Result.failure(new DataplaneNotRegistered(response.body()));
                     }
                 });
+        span.end(result.failed() ? result.getException() : null);
+        return result;
     }
 
     private DataAddress getDataAddressForResume(DataFlow dataFlow) {
@@ -354,14 +880,23 @@ public class Dataplane {
         return null;
     }
 
-    private Result<Void> notifyControlPlane(String action, DataFlow dataFlow, Object message) {
-        return toJson(message)
+    private CompletionStage<Result<Void>> notifyControlPlane(Operation operation, String action, DataFlow dataFlow, Object message) {
+        return notifyControlPlane(action, dataFlow, message, () -> save(operation, dataFlow));
+    }
+
+    /**
+     * Notifies the control plane about the new state of the data flow, and saves it with the given persist step, which
+     * succeeds right away if the caller already saved it.
+     */
+    private CompletionStage<Result<Void>> notifyControlPlane(String action, DataFlow dataFlow, Object message, Supplier<Result<Void>> persist) {
+        var span = tracing.startSpan("callback " + action, SpanKind.CLIENT).attribute("dataflow.id", dataFlow.getId());
+        var event = new CallbackEvent(action, dataFlow.getControlplaneId()).begin(dataFlow);
+        var request = messageCodec.encode(message)
                 .map(body -> {
                     var endpoint = dataFlow.callbackEndpointFor(action);
-                    var requestBuilder = HttpRequest.newBuilder()
-                            .uri(endpoint)
+                    var requestBuilder = callbackTransport.request(endpoint)
                             .header("content-type", "application/json")
-                            .POST(HttpRequest.BodyPublishers.ofString(body));
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(body));
 
                     controlPlaneStore.findById(dataFlow.getControlplaneId())
                             .compose(controlPlane -> {
@@ -373,24 +908,58 @@ public class Dataplane {
                                 return Result.failure(new ResourceNotFoundException("ControlPlane has no authorization"));
                             })
                             .onSuccess(authorizationHeader -> requestBuilder.header(AUTHORIZATION, authorizationHeader));
+                    span.inject(requestBuilder::header);
 
-                    return httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
-                })
-                .compose(response -> {
-                    var successful = response.statusCode() >= 200 && response.statusCode() < 300;
-                    if (successful) {
-                        return save(dataFlow);
-                    }
-
-                    return Result.failure(new DataFlowNotifyControlPlaneFailed(action, response));
+                    return requestBuilder.build();
                 });
+
+        if (callbackCoalescer != null || callbackDispatcher != null) {
+            var saved = request.compose(it -> persist.get()
+                    .onSuccess(v -> endOnCompletion(span, event.endOnCompletion(metrics.callback(action).timeAsync(() -> deliver(action, dataFlow, message, it))))
+                            .thenAccept(result -> result.onFailure(e -> callbackFailureListener.onCallbackFailed(dataFlow.getId(), action, e)))));
+            if (saved.failed()) {
+                span.end(saved.getException());
+                event.end(false);
+            }
+            return completedFuture(saved);
+        }
+
+        return endOnCompletion(span, event.endOnCompletion(metrics.callback(action).timeAsync(() -> request
+                        .composeAsync(it -> callbackTransport.client(dataFlow.getControlplaneId()).sendAsync(it, HttpResponse.BodyHandlers.ofString())
+                                .thenApply(response -> checkResponse(action, response))))))
+                .thenApply(result -> result.compose(v -> persist.get()));
     }
 
-    private Result<String> toJson(Object message) {
+    /**
+     * Hands the request to the coalescer or the dispatcher, which deliver it in the background in the order of
+     * submission per data flow. Only messages without a data address may be superseded by a terminal one, as the data
+     * address isn't part of the terminal message.
+     */
+    private CompletionStage<Result<Void>> deliver(String action, DataFlow dataFlow, Object message, HttpRequest request) {
+        var httpClient = callbackTransport.client(dataFlow.getControlplaneId());
+        if (callbackCoalescer != null) {
+            var terminal = dataFlow.getState() == DataFlow.State.COMPLETED || dataFlow.getState() == DataFlow.State.TERMINATED;
+            var supersedable = message instanceof DataFlowStatusMessage status && status.dataAddress() == null;
+            return callbackCoalescer.submit(dataFlow.getControlplaneId(), dataFlow.getId(), action, terminal, supersedable, request, httpClient);
+        }
+        return callbackDispatcher.dispatch(dataFlow.getId(), request, httpClient)
+                .thenApply(result -> result.compose(response -> checkResponse(action, response)));
+    }
+
+    private static Result<Void> checkResponse(String action, HttpResponse<String> response) {
+        var successful = response.statusCode() >= 200 && response.statusCode() < 300;
+        if (successful) {
+            return Result.success();
+        }
+
+        return Result.failure(new DataFlowNotifyControlPlaneFailed(action, response));
+    }
+
+    private static <T> Result<T> await(CompletionStage<Result<T>> stage) {
         try {
-            return Result.success(objectMapper.writeValueAsString(message));
-        } catch (JsonProcessingException e) {
-            return Result.failure(e);
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            return Result.failure(e.getCause() instanceof Exception cause ? cause : e);
         }
     }
 
@@ -416,7 +985,45 @@ public class Dataplane {
     }
 
     public Result<Void> deleteControlPlane(String id) {
-        return controlPlaneStore.delete(id);
+        return controlPlaneStore.delete(id)
+                .onSuccess(v -> callbackTransport.release(id));
+    }
+
+    private record Deadline(DataFlow.State state, TimingWheel.Timeout timeout) { }
+
+    /**
+     * A running signaling operation, passed explicitly to its steps instead of being looked up by data flow id, as
+     * several operations on the same data flow may be in flight. Its steps run one after another, so the state read
+     * by the operation needs no synchronization.
+     */
+    private static final class Operation {
+
+        private final Span span;
+        private final SignalingEvent event;
+        private DataFlow.State previousState;
+
+        private Operation(Span span, SignalingEvent event) {
+            this.span = span;
+            this.event = event;
+        }
+
+        Span span() {
+            return span;
+        }
+
+        void describe(DataFlow dataFlow) {
+            if (event.isEnabled()) {
+                event.describe(dataFlow);
+            }
+        }
+
+        void read(DataFlow dataFlow) {
+            previousState = dataFlow.getState();
+        }
+
+        DataFlow.State previousState() {
+            return previousState;
+        }
     }
 
     public static class Builder {
@@ -432,6 +1039,17 @@ public class Dataplane {
                 dataplane.id = UUID.randomUUID().toString();
             }
 
+            if (dataplane.tracing != Tracing.noop()) {
+                dataplane.dataFlowStore = new TracedDataFlowStore(dataplane.dataFlowStore, dataplane.tracing);
+            }
+            dataplane.dataFlowStore = new RecordedDataFlowStore(dataplane.dataFlowStore);
+            dataplane.dataFlowStore = new MeteredDataFlowStore(dataplane.dataFlowStore, dataplane.metrics);
+            dataplane.metrics.dataFlowsByState(dataplane.dataFlowStore::countByState);
+
+            if (!dataplane.stateTimeouts.isEmpty() && dataplane.timingWheel == null) {
+                dataplane.timingWheel = TimingWheel.newInstance().build();
+            }
+
             return dataplane;
         }
 
@@ -455,6 +1073,63 @@ public class Dataplane {
             return this;
         }
 
+        /**
+         * Sets the limits for prepare and start requests per control plane. Rejected requests fail with
+         * {@link org.eclipse.dataplane.port.exception.TooManyRequests}. By default, requests are not limited.
+         */
+        public Builder admissionControl(AdmissionControl admissionControl) {
+            dataplane.admissionControl = admissionControl;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a data flow may stay in the given state, e.g. {@link DataFlow.State#PREPARING} or
+         * {@link DataFlow.State#STARTING} while waiting for {@link Dataplane#notifyPrepared} or {@link Dataplane#notifyStarted}. A data
+         * flow exceeding it is terminated and the control plane is notified with an error. Deadlines are kept in
+         * memory, so they are not enforced for data flows saved by another instance.
+         */
+        public Builder stateTimeout(DataFlow.State state, Duration timeout) {
+            dataplane.stateTimeouts.put(state, timeout);
+            return this;
+        }
+
+        /**
+         * Sets the timing wheel enforcing the {@link #stateTimeout(DataFlow.State, Duration)} deadlines. By default, a
+         * wheel with a tick of 100 milliseconds is created when a deadline is configured.
+         */
+        public Builder timingWheel(TimingWheel timingWheel) {
+            dataplane.timingWheel = timingWheel;
+            return this;
+        }
+
+        /**
+         * Sets the store remembering the responses to processed prepare and start messages, so that messages retried
+         * by the control plane are answered without running the handlers again. By default, responses are kept in
+         * memory for 10 minutes.
+         */
+        public Builder processedMessageStore(ProcessedMessageStore processedMessageStore) {
+            dataplane.processedMessageStore = processedMessageStore;
+            return this;
+        }
+
+        /**
+         * Sets the metrics recording the latency and failures of the signaling operations, handlers, store calls and
+         * control plane callbacks.
+         */
+        public Builder metrics(DataplaneMetrics metrics) {
+            dataplane.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets the tracing of signaling operations, handlers, store calls and control plane callbacks. Callbacks
+         * propagate the W3C trace context. By default, nothing is traced.
+         */
+        public Builder tracing(Tracing tracing) {
+            dataplane.tracing = tracing;
+            return this;
+        }
+
         public Builder stores(Stores stores) {
             dataplane.dataFlowStore = stores.dataFlowStore();
             dataplane.controlPlaneStore = stores.controlPlaneStore();
@@ -462,42 +1137,153 @@ public class Dataplane {
         }
 
         public Builder onPrepare(OnPrepare onPrepare) {
+            dataplane.onPrepare = OnPrepareAsync.of(onPrepare);
+            return this;
+        }
+
+        public Builder onPrepareAsync(OnPrepareAsync onPrepare) {
             dataplane.onPrepare = onPrepare;
             return this;
         }
 
         public Builder onStart(OnStart onStart) {
+            dataplane.onStart = OnStartAsync.of(onStart);
+            return this;
+        }
+
+        public Builder onStartAsync(OnStartAsync onStart) {
             dataplane.onStart = onStart;
             return this;
         }
 
         public Builder onStarted(OnStarted onStarted) {
+            dataplane.onStarted = OnStartedAsync.of(onStarted);
+            return this;
+        }
+
+        public Builder onStartedAsync(OnStartedAsync onStarted) {
             dataplane.onStarted = onStarted;
             return this;
         }
 
+        public Builder onRecover(OnRecover onRecover) {
+            dataplane.onRecover = OnRecoverAsync.of(onRecover);
+            return this;
+        }
+
+        public Builder onRecoverAsync(OnRecoverAsync onRecover) {
+            dataplane.onRecover = onRecover;
+            return this;
+        }
+
+        /**
+         * Sets the buffer capacity and batch size of the bus delivering state changes to the listeners subscribed with
+         * {@link Dataplane#subscribe(DataFlowListener)}. By default, it buffers 8192 events.
+         */
+        public Builder eventBus(DataFlowEventBus eventBus) {
+            dataplane.eventBus = eventBus;
+            return this;
+        }
+
+        /**
+         * Sets the concurrency and paging of {@link Dataplane#recover()}. By default, 64 data flows are recovered
+         * concurrently, each on its own virtual thread.
+         */
+        public Builder recovery(DataFlowRecovery recovery) {
+            dataplane.recovery = recovery;
+            return this;
+        }
+
         public Builder onCompleted(OnCompleted onCompleted) {
+            dataplane.onCompleted = OnCompletedAsync.of(onCompleted);
+            return this;
+        }
+
+        public Builder onCompletedAsync(OnCompletedAsync onCompleted) {
             dataplane.onCompleted = onCompleted;
             return this;
         }
 
         public Builder onSuspend(OnSuspend onSuspend) {
+            dataplane.onSuspend = OnSuspendAsync.of(onSuspend);
+            return this;
+        }
+
+        public Builder onSuspendAsync(OnSuspendAsync onSuspend) {
             dataplane.onSuspend = onSuspend;
             return this;
         }
 
         public Builder onResume(OnResume onResume) {
+            dataplane.onResume = OnResumeAsync.of(onResume);
+            return this;
+        }
+
+        public Builder onResumeAsync(OnResumeAsync onResume) {
             dataplane.onResume = onResume;
             return this;
         }
 
         public Builder onTerminate(OnTerminate onTerminate) {
+            dataplane.onTerminate = OnTerminateAsync.of(onTerminate);
+            return this;
+        }
+
+        public Builder onTerminateAsync(OnTerminateAsync onTerminate) {
             dataplane.onTerminate = onTerminate;
             return this;
         }
 
+        public Builder handlerExecution(HandlerExecution handlerExecution) {
+            dataplane.handlerExecution = handlerExecution;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP transport settings for requests to control planes, e.g. timeouts or one client per control
+         * plane.
+         */
+        public Builder callbackTransport(CallbackTransport callbackTransport) {
+            dataplane.callbackTransport = callbackTransport;
+            return this;
+        }
+
+        /**
+         * Sets the dispatcher delivering notifications to the control plane, e.g. to retry them. Notifications then
+         * complete once the new state is persisted, and are delivered in the background, so that retries hold neither
+         * the data flow nor the caller. Failed deliveries are reported to the {@link #callbackFailureListener}. By
+         * default, notifications are sent once without retries, and the new state is only persisted once the control
+         * plane accepted it.
+         */
+        public Builder callbackDispatcher(CallbackDispatcher callbackDispatcher) {
+            dataplane.callbackDispatcher = callbackDispatcher;
+            return this;
+        }
+
+        /**
+         * Enables coalescing of notifications to the control plane. Notifications then complete once the new state
+         * is persisted, and are delivered asynchronously in batches through the coalescer's dispatcher.
+         */
+        public Builder callbackCoalescer(CallbackCoalescer callbackCoalescer) {
+            dataplane.callbackCoalescer = callbackCoalescer;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified about notifications that failed to be delivered in the background, see
+         * {@link #callbackDispatcher(CallbackDispatcher)} and {@link #callbackCoalescer(CallbackCoalescer)}.
+         */
+        public Builder callbackFailureListener(CallbackFailureListener callbackFailureListener) {
+            dataplane.callbackFailureListener = callbackFailureListener;
+            return this;
+        }
+
         public Builder registerAuthorization(Authorization authorization) {
             dataplane.authorizations.put(authorization.type(), authorization);
+            var scheme = authorization.scheme();
+            if (scheme == null || dataplane.authorizationsByScheme.putIfAbsent(scheme.toLowerCase(Locale.ROOT), authorization) != null) {
+                dataplane.authorizationsWithoutScheme.add(authorization);
+            }
             return this;
         }
     }
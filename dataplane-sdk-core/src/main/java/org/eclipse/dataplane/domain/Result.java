@@ -15,6 +15,9 @@
 package org.eclipse.dataplane.domain;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -53,6 +56,16 @@ public abstract class Result<C> {
 
     public abstract <T> Result<T> compose(ExceptionThrowingFunction<C, Result<T>> transformValue);
 
+    /**
+     * Asynchronous variant of {@link #compose(ExceptionThrowingFunction)}. If the returned stage completes
+     * exceptionally, the exception is converted into a failed {@link Result}, so the resulting stage never
+     * completes exceptionally.
+     *
+     * @param transformValue function returning the stage of the next result
+     * @return the stage of the next result
+     */
+    public abstract <T> CompletionStage<Result<T>> composeAsync(ExceptionThrowingFunction<C, CompletionStage<Result<T>>> transformValue);
+
     public abstract Result<C> onSuccess(Consumer<C> onSuccessDo);
 
     public abstract Result<C> onFailure(Consumer<Exception> onFailureDo);
@@ -107,6 +120,16 @@ public abstract class Result<C> {
             }
         }
 
+        @Override
+        public <T> CompletionStage<Result<T>> composeAsync(ExceptionThrowingFunction<C, CompletionStage<Result<T>>> transformValue) {
+            try {
+                return transformValue.apply(this.content)
+                        .handle((result, throwable) -> throwable == null ? result : Result.failure(unwrap(throwable)));
+            } catch (Exception e) {
+                return CompletableFuture.completedFuture(Result.failure(e));
+            }
+        }
+
         @Override
         public Result<C> onSuccess(Consumer<C> onSuccessDo) {
             onSuccessDo.accept(content);
@@ -157,6 +180,11 @@ public abstract class Result<C> {
             return Result.failure(this.exception);
         }
 
+        @Override
+        public <T> CompletionStage<Result<T>> composeAsync(ExceptionThrowingFunction<C, CompletionStage<Result<T>>> transformValue) {
+            return CompletableFuture.completedFuture(Result.failure(this.exception));
+        }
+
         @Override
         public Result<C> onSuccess(Consumer<C> onSuccessDo) {
             return this;
@@ -169,6 +197,11 @@ public abstract class Result<C> {
         }
     }
 
+    private static Exception unwrap(Throwable throwable) {
+        var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof Exception exception ? exception : new CompletionException(cause);
+    }
+
     @FunctionalInterface
     public interface ExceptionThrowingFunction<T, R> {
         R apply(T t) throws Exception;
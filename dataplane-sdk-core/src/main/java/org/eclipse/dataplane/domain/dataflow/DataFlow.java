@@ -40,6 +40,7 @@ public class DataFlow {
     private DataAddress dataAddress;
     private String controlplaneId;
     private Type type;
+    private long updatedAt;
 
     public static DataFlow.Builder newInstance() {
         return new Builder();
@@ -167,6 +168,17 @@ public class DataFlow {
         return type;
     }
 
+    /**
+     * Returns the update marker assigned by the store when the DataFlow was last persisted. The marker is
+     * monotonically increasing within a store and can be used as watermark for
+     * {@link org.eclipse.dataplane.port.store.DataFlowStore#findChangedSince(long, int)}.
+     *
+     * @return the update marker, 0 if the DataFlow has not been persisted yet
+     */
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
     private String transferTypeLastToken() {
         return transferType.substring(transferType.lastIndexOf('-') + 1);
     }
@@ -271,6 +283,11 @@ public class DataFlow {
             dataFlow.type = type;
             return this;
         }
+
+        public Builder updatedAt(long updatedAt) {
+            dataFlow.updatedAt = updatedAt;
+            return this;
+        }
     }
 
     public enum State {
@@ -281,7 +298,38 @@ public class DataFlow {
         STARTED,
         SUSPENDED,
         COMPLETED,
-        TERMINATED
+        TERMINATED;
+
+        /**
+         * Allowed target states per state, as bitmask over the ordinals of the target states.
+         */
+        private static final int[] TRANSITIONS = new int[values().length];
+
+        static {
+            allow(INITIATING, PREPARING, PREPARED, STARTING, STARTED, COMPLETED, TERMINATED);
+            allow(PREPARING, PREPARED, TERMINATED);
+            allow(PREPARED, PREPARED, STARTING, STARTED, SUSPENDED, COMPLETED, TERMINATED);
+            allow(STARTING, STARTED, SUSPENDED, COMPLETED, TERMINATED);
+            allow(STARTED, STARTED, SUSPENDED, COMPLETED, TERMINATED);
+            allow(SUSPENDED, STARTED, SUSPENDED, TERMINATED);
+        }
+
+        private static void allow(State from, State... targets) {
+            for (var target : targets) {
+                TRANSITIONS[from.ordinal()] |= 1 << target.ordinal();
+            }
+        }
+
+        /**
+         * Whether a DataFlow in this state can transition to the target state. COMPLETED and TERMINATED are final
+         * states, repeating STARTED, SUSPENDED or PREPARED is allowed to keep the respective messages idempotent.
+         *
+         * @param target the target state
+         * @return true if the transition is allowed
+         */
+        public boolean canTransitionTo(State target) {
+            return (TRANSITIONS[ordinal()] & (1 << target.ordinal())) != 0;
+        }
     }
 }
 
@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.dataflow;
+
+import java.util.List;
+
+/**
+ * A page of the change feed over data flows.
+ *
+ * @param dataFlows the changed data flows, ordered by their update marker
+ * @param watermark the watermark to pass for retrieving the next page of changes
+ */
+public record DataFlowChanges(List<DataFlow> dataFlows, long watermark) {
+}
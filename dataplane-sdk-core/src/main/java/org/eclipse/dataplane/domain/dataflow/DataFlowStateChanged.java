@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.dataflow;
+
+/**
+ * Published to the {@link org.eclipse.dataplane.logic.DataFlowListener}s once a {@link DataFlow} has been saved in a
+ * different state than before.
+ *
+ * @param dataFlowId the data flow id
+ * @param previousState the state before the save, null if the data flow was not stored before
+ * @param state the saved state
+ * @param type the type of the data flow
+ * @param transferType the transfer type
+ * @param controlplaneId the id of the owning control plane
+ * @param timestamp the time of the save in milliseconds since the epoch
+ */
+public record DataFlowStateChanged(
+        String dataFlowId,
+        DataFlow.State previousState,
+        DataFlow.State state,
+        DataFlow.Type type,
+        String transferType,
+        String controlplaneId,
+        long timestamp
+) {
+
+    public static DataFlowStateChanged of(DataFlow dataFlow, DataFlow.State previousState) {
+        return new DataFlowStateChanged(dataFlow.getId(), previousState, dataFlow.getState(), dataFlow.getType(), dataFlow.getTransferType(),
+                dataFlow.getControlplaneId(), System.currentTimeMillis());
+    }
+}
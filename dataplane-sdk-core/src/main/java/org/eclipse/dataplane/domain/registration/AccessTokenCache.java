@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.registration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches access tokens per token endpoint and client id until shortly before they expire. Tokens are refreshed in the
+ * background once three quarters of their lifetime elapsed, and concurrent callers missing the cache share a single
+ * request to the token endpoint. Tokens without an expiration are not cached.
+ */
+public class AccessTokenCache {
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(10);
+
+    private final Clock clock;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AccessTokenCache() {
+        this(Clock.systemUTC());
+    }
+
+    public AccessTokenCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached token for the given token endpoint and client id, or fetches it.
+     *
+     * @param tokenEndpoint the token endpoint
+     * @param clientId the client id
+     * @param fetch requests a new token from the token endpoint
+     * @return a future completing with the access token
+     */
+    public CompletableFuture<String> get(String tokenEndpoint, String clientId, Supplier<CompletableFuture<AccessToken>> fetch) {
+        var entry = entries.computeIfAbsent(new Key(tokenEndpoint, clientId), key -> new Entry());
+        var now = clock.instant();
+
+        var cached = entry.cached();
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            hits.increment();
+            if (!now.isBefore(cached.refreshAt())) {
+                entry.fetch(fetch, clock);
+            }
+            return CompletableFuture.completedFuture(cached.value());
+        }
+
+        misses.increment();
+        return entry.fetch(fetch, clock).thenApply(CachedToken::value);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * An access token as returned by the token endpoint.
+     *
+     * @param value the access token
+     * @param expiresIn the lifetime of the token, null if unknown
+     */
+    public record AccessToken(String value, Duration expiresIn) {
+    }
+
+    private record Key(String tokenEndpoint, String clientId) {
+    }
+
+    private record CachedToken(String value, Instant expiresAt, Instant refreshAt) {
+
+        static CachedToken of(AccessToken token, Instant requestedAt) {
+            if (token.expiresIn() == null) {
+                return new CachedToken(token.value(), requestedAt, requestedAt);
+            }
+            var lifetime = token.expiresIn();
+            var margin = lifetime.dividedBy(4).compareTo(EXPIRY_MARGIN) < 0 ? lifetime.dividedBy(4) : EXPIRY_MARGIN;
+            var expiresAt = requestedAt.plus(lifetime).minus(margin);
+            var refreshAt = requestedAt.plus(lifetime.multipliedBy(3).dividedBy(4));
+            return new CachedToken(token.value(), expiresAt, refreshAt.isBefore(expiresAt) ? refreshAt : expiresAt);
+        }
+    }
+
+    private static class Entry {
+
+        private CachedToken cached;
+        private CompletableFuture<CachedToken> inFlight;
+
+        synchronized CachedToken cached() {
+            return cached;
+        }
+
+        synchronized CompletableFuture<CachedToken> fetch(Supplier<CompletableFuture<AccessToken>> fetch, Clock clock) {
+            if (inFlight != null) {
+                return inFlight;
+            }
+
+            var requestedAt = clock.instant();
+            var future = fetch.get().thenApply(token -> CachedToken.of(token, requestedAt));
+            inFlight = future;
+            future.whenComplete((token, throwable) -> {
+                synchronized (this) {
+                    if (token != null) {
+                        cached = token;
+                    }
+                    inFlight = null;
+                }
+            });
+            return future;
+        }
+    }
+}
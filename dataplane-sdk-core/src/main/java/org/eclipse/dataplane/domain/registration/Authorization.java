@@ -10,6 +10,7 @@
  *  Contributors:
  *       Think-it GmbH - initial API and implementation
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - Javadoc
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - authorization scheme
  *
  */
 
@@ -29,6 +30,17 @@ public interface Authorization {
      */
     String type();
 
+    /**
+     * Return the scheme of the Authorization headers this authorization handles, e.g. "Bearer". Incoming headers
+     * are routed by their scheme, so {@link #extractCallerId(String)} is only called for matching headers. If null,
+     * all headers not handled by another authorization are passed to it.
+     *
+     * @return the authorization scheme, or null
+     */
+    default String scheme() {
+        return null;
+    }
+
     /**
      * Function that applies the authorization profile to the request builder.
      * e.g. the Authorization header could be added with proper content.
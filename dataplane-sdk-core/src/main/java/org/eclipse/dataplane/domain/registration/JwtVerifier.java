@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.registration;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.port.exception.UnauthorizedException;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies signature and expiration of JWTs against the keys of a JWK set, and returns their subject. Tokens must have
+ * an {@code exp} and a {@code sub} claim, and optionally the configured issuer and audience. The JWK set is cached and
+ * refreshed ahead of its expiration, and verified tokens are cached by their hash until they expire, so repeated
+ * verifications of the same token only cost a hash and a map lookup. Once the cache is full, the least recently used
+ * token is evicted.
+ */
+public class JwtVerifier {
+
+    private static final Set<String> REQUIRED_CLAIMS = Set.of("exp", "sub");
+    private static final Set<JWSAlgorithm> ALGORITHMS = Set.of(
+            JWSAlgorithm.RS256, JWSAlgorithm.RS384, JWSAlgorithm.RS512,
+            JWSAlgorithm.PS256, JWSAlgorithm.PS384, JWSAlgorithm.PS512,
+            JWSAlgorithm.ES256, JWSAlgorithm.ES384, JWSAlgorithm.ES512
+    );
+
+    private final DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > maxCachedTokens;
+        }
+    };
+    private int maxCachedTokens = 10_000;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Verifies the token and extracts its subject.
+     *
+     * @param token the serialized JWT
+     * @return a successful result containing the subject, or a failed result if the token is invalid
+     */
+    public Result<String> verify(String token) {
+        var hash = hash(token);
+        VerifiedToken verified;
+        synchronized (verifiedTokens) {
+            verified = verifiedTokens.get(hash);
+            if (verified != null && !Instant.now().isBefore(verified.expiresAt())) {
+                verifiedTokens.remove(hash);
+                verified = null;
+            }
+        }
+        if (verified != null) {
+            hits.increment();
+            return Result.success(verified.subject());
+        }
+
+        misses.increment();
+        try {
+            var claims = processor.process(SignedJWT.parse(token), null);
+            var verifiedToken = new VerifiedToken(claims.getSubject(), claims.getExpirationTime().toInstant());
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(hash, verifiedToken);
+            }
+            return Result.success(claims.getSubject());
+        } catch (Exception e) {
+            return Result.failure(new UnauthorizedException("JWT verification failed: " + e.getMessage()));
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    public static class Builder {
+
+        private final JwtVerifier verifier = new JwtVerifier();
+        private URI jwkSetUri;
+        private JWKSource<SecurityContext> jwkSource;
+        private Duration jwkSetCacheTtl = Duration.ofMinutes(5);
+        private String issuer;
+        private String audience;
+
+        private Builder() {
+
+        }
+
+        public JwtVerifier build() {
+            if (jwkSource == null) {
+                Objects.requireNonNull(jwkSetUri, "jwkSetUri or jwkSource must be set");
+                try {
+                    jwkSource = JWKSourceBuilder.<SecurityContext>create(jwkSetUri.toURL())
+                            .cache(jwkSetCacheTtl.toMillis(), Duration.ofSeconds(15).toMillis())
+                            .refreshAheadCache(true)
+                            .build();
+                } catch (MalformedURLException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+            verifier.processor.setJWSKeySelector(new JWSVerificationKeySelector<>(ALGORITHMS, jwkSource));
+            var exactMatchClaims = new JWTClaimsSet.Builder();
+            if (issuer != null) {
+                exactMatchClaims.issuer(issuer);
+            }
+            verifier.processor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(audience, exactMatchClaims.build(), REQUIRED_CLAIMS));
+            return verifier;
+        }
+
+        /**
+         * Location of the JWK set containing the keys the tokens are signed with.
+         */
+        public Builder jwkSetUri(URI jwkSetUri) {
+            this.jwkSetUri = jwkSetUri;
+            return this;
+        }
+
+        /**
+         * Source of the keys the tokens are signed with, replacing the one retrieved from the {@link #jwkSetUri(URI)}.
+         */
+        public Builder jwkSource(JWKSource<SecurityContext> jwkSource) {
+            this.jwkSource = jwkSource;
+            return this;
+        }
+
+        /**
+         * How long the JWK set retrieved from the {@link #jwkSetUri(URI)} is cached.
+         */
+        public Builder jwkSetCacheTtl(Duration jwkSetCacheTtl) {
+            this.jwkSetCacheTtl = jwkSetCacheTtl;
+            return this;
+        }
+
+        /**
+         * Issuer the tokens must be issued by, by default the issuer is not checked.
+         */
+        public Builder issuer(String issuer) {
+            this.issuer = issuer;
+            return this;
+        }
+
+        /**
+         * Audience the tokens must be issued for, by default the audience is not checked.
+         */
+        public Builder audience(String audience) {
+            this.audience = audience;
+            return this;
+        }
+
+        public Builder maxCachedTokens(int maxCachedTokens) {
+            verifier.maxCachedTokens = maxCachedTokens;
+            return this;
+        }
+    }
+}
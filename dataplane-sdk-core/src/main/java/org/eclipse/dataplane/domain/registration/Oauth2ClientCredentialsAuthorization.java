@@ -9,6 +9,9 @@
  *
  *  Contributors:
  *       Think-it GmbH - initial API and implementation
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - configurable http client
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - access token cache
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - token verification
  *
  */
 
@@ -17,6 +20,7 @@ package org.eclipse.dataplane.domain.registration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.port.exception.UnauthorizedException;
 
 import java.net.URI;
 import java.net.URLEncoder;
@@ -24,57 +28,101 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED;
 
 public class Oauth2ClientCredentialsAuthorization implements Authorization {
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final HttpClient httpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AccessTokenCache tokenCache;
+    private final JwtVerifier jwtVerifier;
 
-    @Override
-    public String type() {
-        return "oauth2_client_credentials";
+    public Oauth2ClientCredentialsAuthorization() {
+        this(HttpClient.newBuilder().connectTimeout(TIMEOUT).build());
     }
 
-    @Override
-    public Result<String> authorizationHeader(AuthorizationProfile profile) {
-        var tokenEndpoint = profile.stringAttribute("tokenEndpoint");
+    /**
+     * Creates the authorization using the given client for requests to the token endpoint, e.g. to share the
+     * client and its connections with the callback transport.
+     *
+     * @param httpClient the client
+     */
+    public Oauth2ClientCredentialsAuthorization(HttpClient httpClient) {
+        this(httpClient, new AccessTokenCache());
+    }
 
-        var parameters = Map.of(
-                "grant_type", "client_credentials",
-                "client_id", profile.stringAttribute("clientId"),
-                "client_secret", profile.stringAttribute("clientSecret")
-        );
+    /**
+     * Creates the authorization using the given client for requests to the token endpoint and the given cache for
+     * the obtained access tokens.
+     *
+     * @param httpClient the client
+     * @param tokenCache the access token cache
+     */
+    public Oauth2ClientCredentialsAuthorization(HttpClient httpClient, AccessTokenCache tokenCache) {
+        this(httpClient, tokenCache, null);
+    }
 
-        var form = parameters.entrySet()
-                .stream()
-                .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
-                .collect(Collectors.joining("&"));
+    /**
+     * Creates the authorization, verifying the tokens of incoming requests with the given verifier. Without a
+     * verifier, the caller id is extracted from tokens without verifying them.
+     *
+     * @param httpClient the client
+     * @param tokenCache the access token cache
+     * @param jwtVerifier the verifier for tokens of incoming requests
+     */
+    public Oauth2ClientCredentialsAuthorization(HttpClient httpClient, AccessTokenCache tokenCache, JwtVerifier jwtVerifier) {
+        this.httpClient = httpClient;
+        this.tokenCache = tokenCache;
+        this.jwtVerifier = jwtVerifier;
+    }
 
+    public AccessTokenCache getTokenCache() {
+        return tokenCache;
+    }
 
-        var request = HttpRequest.newBuilder(URI.create(tokenEndpoint))
-                .POST(HttpRequest.BodyPublishers.ofString(form))
-                .header("Content-Type", APPLICATION_FORM_URLENCODED)
-                .build();
+    @Override
+    public String type() {
+        return "oauth2_client_credentials";
+    }
 
+    @Override
+    public String scheme() {
+        return "Bearer";
+    }
+
+    @Override
+    public Result<String> authorizationHeader(AuthorizationProfile profile) {
         try {
-            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            var body = response.body();
-            var accessToken = objectMapper.readValue(body, Map.class).get("access_token").toString();
-            return Result.success("Bearer " + accessToken);
+            var accessToken = tokenCache.get(profile.stringAttribute("tokenEndpoint"), profile.stringAttribute("clientId"), () -> requestToken(profile))
+                    .join();
+            return Result.success(BEARER_PREFIX + accessToken);
+        } catch (CompletionException e) {
+            return Result.failure(e.getCause() instanceof Exception cause ? cause : e);
         } catch (Exception e) {
             return Result.failure(e);
         }
-
     }
 
     @Override
     public Result<String> extractCallerId(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return Result.failure(new UnauthorizedException("Authorization header is not a Bearer token"));
+        }
+
         try {
-            var token = authorizationHeader.substring("Bearer ".length());
+            var token = authorizationHeader.substring(BEARER_PREFIX.length());
+            if (jwtVerifier != null) {
+                return jwtVerifier.verify(token);
+            }
             var jwt = SignedJWT.parse(token);
             var sub = jwt.getJWTClaimsSet().getClaims().get("sub");
             if (sub instanceof String callerId) {
@@ -85,4 +133,35 @@ public class Oauth2ClientCredentialsAuthorization implements Authorization {
             return Result.failure(e);
         }
     }
+
+    private CompletableFuture<AccessTokenCache.AccessToken> requestToken(AuthorizationProfile profile) {
+        var parameters = Map.of(
+                "grant_type", "client_credentials",
+                "client_id", profile.stringAttribute("clientId"),
+                "client_secret", profile.stringAttribute("clientSecret")
+        );
+
+        var form = parameters.entrySet()
+                .stream()
+                .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+
+        var request = HttpRequest.newBuilder(URI.create(profile.stringAttribute("tokenEndpoint")))
+                .timeout(TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .header("Content-Type", APPLICATION_FORM_URLENCODED)
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    try {
+                        var body = objectMapper.readValue(response.body(), Map.class);
+                        var accessToken = body.get("access_token").toString();
+                        var expiresIn = body.get("expires_in") instanceof Number seconds ? Duration.ofSeconds(seconds.longValue()) : null;
+                        return new AccessTokenCache.AccessToken(accessToken, expiresIn);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
 }
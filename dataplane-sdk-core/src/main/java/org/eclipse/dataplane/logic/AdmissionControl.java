@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.port.exception.TooManyRequests;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the requests each control plane can make, so a single control plane cannot saturate the dataplane. Every
+ * control plane has its own token bucket, refilled at the configured rate up to the burst size, and its own cap on
+ * concurrent requests. By default, requests are not limited.
+ */
+public class AdmissionControl {
+
+    private static final Permit UNLIMITED = () -> { };
+    private static final Duration CONCURRENCY_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private double requestsPerSecond = Double.POSITIVE_INFINITY;
+    private int burst;
+    private int maxConcurrentRequests = Integer.MAX_VALUE;
+
+    private final Map<String, Caller> callers = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Admits a request of the given control plane. The returned permit must be released once the request completed.
+     *
+     * @param controlplaneId the id of the calling control plane
+     * @return a successful result containing the permit, or a failed result with {@link TooManyRequests}
+     */
+    public Result<Permit> acquire(String controlplaneId) {
+        if (Double.isInfinite(requestsPerSecond) && maxConcurrentRequests == Integer.MAX_VALUE) {
+            return Result.success(UNLIMITED);
+        }
+
+        var caller = callers.computeIfAbsent(controlplaneId, id -> new Caller(burst));
+        var result = caller.acquire(controlplaneId);
+        if (result.failed()) {
+            rejected.increment();
+        }
+        return result;
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Permit for an admitted request.
+     */
+    @FunctionalInterface
+    public interface Permit {
+
+        /**
+         * Releases the permit. Releasing it more than once has no effect.
+         */
+        void release();
+    }
+
+    private class Caller {
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private int inFlight;
+
+        Caller(int tokens) {
+            this.tokens = tokens;
+        }
+
+        synchronized Result<Permit> acquire(String controlplaneId) {
+            if (Double.isFinite(requestsPerSecond)) {
+                var now = System.nanoTime();
+                tokens = Math.min(burst, tokens + (now - refilledAt) * requestsPerSecond / 1_000_000_000);
+                refilledAt = now;
+            }
+
+            if (inFlight >= maxConcurrentRequests) {
+                return Result.failure(new TooManyRequests(controlplaneId, "too many concurrent requests", CONCURRENCY_RETRY_AFTER));
+            }
+            if (Double.isFinite(requestsPerSecond) && tokens < 1) {
+                var retryAfter = Duration.ofNanos((long) Math.ceil((1 - tokens) / requestsPerSecond * 1_000_000_000));
+                return Result.failure(new TooManyRequests(controlplaneId, "rate limit exceeded", retryAfter));
+            }
+
+            tokens--;
+            inFlight++;
+            var released = new AtomicBoolean();
+            return Result.success(() -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            });
+        }
+
+        private synchronized void release() {
+            inFlight--;
+        }
+    }
+
+    public static class Builder {
+
+        private final AdmissionControl admissionControl = new AdmissionControl();
+
+        private Builder() {
+
+        }
+
+        public AdmissionControl build() {
+            if (admissionControl.burst == 0) {
+                admissionControl.burst = Double.isInfinite(admissionControl.requestsPerSecond)
+                        ? Integer.MAX_VALUE : Math.max(1, (int) Math.ceil(admissionControl.requestsPerSecond));
+            }
+            return admissionControl;
+        }
+
+        /**
+         * Sustained number of requests per second a control plane is allowed to make.
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            admissionControl.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Number of requests a control plane can make at once after being idle, defaults to one second worth of
+         * requests.
+         */
+        public Builder burst(int burst) {
+            admissionControl.burst = burst;
+            return this;
+        }
+
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            admissionControl.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+    }
+}
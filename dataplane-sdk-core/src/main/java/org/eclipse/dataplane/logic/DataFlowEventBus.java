@@ -0,0 +1,241 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.dataflow.DataFlowStateChanged;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers {@link DataFlowStateChanged} events to the subscribed {@link DataFlowListener}s without blocking the
+ * publisher. Events are put into a bounded lock-free ring buffer, which is drained in batches by a single consumer
+ * thread calling the listeners. When the buffer is full, i.e. the listeners don't keep up, the event is dropped and
+ * counted, so a slow listener never delays the signaling path.
+ *
+ * <p>The consumer thread is started with the first subscription and is a daemon thread. Without listeners, events are
+ * discarded.
+ */
+public class DataFlowEventBus {
+
+    private static final long MAX_PARK_NANOS = Duration.ofMillis(100).toNanos();
+
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private Object[] buffer;
+    private AtomicLongArray sequences;
+
+    private final List<DataFlowListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder listenerFailures = new LongAdder();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean waiting;
+    private volatile boolean stopped;
+    private volatile Thread consumer;
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    public void subscribe(DataFlowListener listener) {
+        if (stopped) {
+            throw new IllegalStateException("DataFlowEventBus has been stopped");
+        }
+        listeners.add(listener);
+        if (started.compareAndSet(false, true)) {
+            var thread = new Thread(this::run, "dataplane-event-bus");
+            thread.setDaemon(true);
+            consumer = thread;
+            thread.start();
+        }
+    }
+
+    public void unsubscribe(DataFlowListener listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Publishes the event, if there are listeners. Never blocks.
+     *
+     * @param event the event
+     * @return true, if the event was put into the buffer, false if there are no listeners or the buffer is full
+     */
+    public boolean publish(DataFlowStateChanged event) {
+        if (listeners.isEmpty() || stopped) {
+            return false;
+        }
+
+        var mask = capacity - 1;
+        var position = tail.get();
+        while (true) {
+            var index = (int) (position & mask);
+            var difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = event;
+                    sequences.set(index, position + 1);
+                    published.increment();
+                    if (waiting) {
+                        LockSupport.unpark(consumer);
+                    }
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events put into the buffer.
+     */
+    public long published() {
+        return published.sum();
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of events in the buffer that have not been drained by the consumer yet.
+     */
+    public long lag() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the number of listener calls that threw an exception.
+     */
+    public long listenerFailures() {
+        return listenerFailures.sum();
+    }
+
+    /**
+     * Stops the consumer thread. Events still in the buffer are discarded.
+     */
+    public void stop() {
+        stopped = true;
+        var thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        while (!stopped) {
+            var batch = drain();
+            if (batch.isEmpty()) {
+                waiting = true;
+                if (isEmpty() && !stopped) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                waiting = false;
+                continue;
+            }
+
+            var events = Collections.unmodifiableList(batch);
+            for (var listener : listeners) {
+                try {
+                    listener.onStateChanged(events);
+                } catch (RuntimeException e) {
+                    listenerFailures.increment();
+                }
+            }
+        }
+    }
+
+    private List<DataFlowStateChanged> drain() {
+        var mask = capacity - 1;
+        var position = head;
+        var batch = new ArrayList<DataFlowStateChanged>();
+        while (batch.size() < batchSize) {
+            var index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            batch.add((DataFlowStateChanged) buffer[index]);
+            buffer[index] = null;
+            sequences.set(index, position + capacity);
+            position++;
+        }
+        head = position;
+        return batch;
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) (head & (capacity - 1))) != head + 1;
+    }
+
+    private void allocate() {
+        buffer = new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (var i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public static class Builder {
+
+        private final DataFlowEventBus eventBus = new DataFlowEventBus();
+
+        private Builder() {
+
+        }
+
+        public DataFlowEventBus build() {
+            eventBus.allocate();
+            return eventBus;
+        }
+
+        /**
+         * Number of events the buffer holds, rounded up to the next power of two.
+         */
+        public Builder capacity(int capacity) {
+            eventBus.capacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+            return this;
+        }
+
+        /**
+         * Maximum number of events passed to the listeners at once.
+         */
+        public Builder batchSize(int batchSize) {
+            eventBus.batchSize = batchSize;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.dataflow.DataFlowStateChanged;
+
+import java.util.List;
+
+/**
+ * Observes the state changes of the data flows, see {@link DataFlowEventBus}. Listeners are called on the bus' consumer
+ * thread, so they should hand off expensive work.
+ */
+@FunctionalInterface
+public interface DataFlowListener {
+
+    void onStateChanged(DataFlowStateChanged event);
+
+    /**
+     * Called with the events drained from the bus at once, in publication order. Override to process them in bulk,
+     * e.g. in a single database transaction.
+     *
+     * @param events the events
+     */
+    default void onStateChanged(List<DataFlowStateChanged> events) {
+        events.forEach(this::onStateChanged);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Serializes operations per DataFlow id: operations submitted for the same DataFlow run strictly one after another
+ * in submission order, each one starting only after the stage returned by the previous one completed. Operations
+ * for different DataFlows are not coordinated and run fully in parallel.
+ *
+ * <p>An operation must not wait for another operation on the same DataFlow to complete, as that one is queued behind
+ * it. Callers nesting operations, like a handler signaling its own DataFlow, have to run the nested operation
+ * without submitting it. Operations that complete synchronously are drained in a loop by the submitting thread, asynchronous ones
+ * trigger the next operation on the thread that completes them.
+ */
+public class DataFlowMailbox {
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * Submits an operation for the given DataFlow.
+     *
+     * @param dataFlowId the DataFlow id
+     * @param operation the operation
+     * @return a stage completing with the result of the operation
+     */
+    public <T> CompletionStage<T> submit(String dataFlowId, Supplier<? extends CompletionStage<T>> operation) {
+        var task = new Task<>(operation);
+        var mailbox = mailboxes.compute(dataFlowId, (id, existing) -> {
+            var current = existing == null ? new Mailbox() : existing;
+            current.tasks.add(task);
+            return current;
+        });
+
+        if (mailbox.claim()) {
+            drain(dataFlowId);
+        }
+        return task.result;
+    }
+
+    /**
+     * Returns the number of DataFlows with pending or running operations.
+     *
+     * @return the number of active mailboxes
+     */
+    public int activeCount() {
+        return mailboxes.size();
+    }
+
+    private void drain(String dataFlowId) {
+        while (true) {
+            var next = new Task<?>[1];
+            mailboxes.computeIfPresent(dataFlowId, (id, mailbox) -> {
+                next[0] = mailbox.tasks.poll();
+                return next[0] == null ? null : mailbox;
+            });
+            if (next[0] == null) {
+                return;
+            }
+
+            var completion = next[0].run();
+            if (!completion.isDone()) {
+                completion.whenComplete((result, throwable) -> drain(dataFlowId));
+                return;
+            }
+        }
+    }
+
+    private static class Mailbox {
+        private final Queue<Task<?>> tasks = new ArrayDeque<>();
+        private boolean claimed;
+
+        /**
+         * Claims the mailbox for draining, only the first submitter of a mailbox instance succeeds. Once drained,
+         * the mailbox is removed, so the next submission creates and claims a new one.
+         */
+        synchronized boolean claim() {
+            if (claimed) {
+                return false;
+            }
+            claimed = true;
+            return true;
+        }
+    }
+
+    private static class Task<T> {
+        private final Supplier<? extends CompletionStage<T>> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Task(Supplier<? extends CompletionStage<T>> operation) {
+            this.operation = operation;
+        }
+
+        CompletableFuture<T> run() {
+            try {
+                operation.get().whenComplete((value, throwable) -> {
+                    if (throwable == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(throwable);
+                    }
+                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Recovers the DataFlows that are neither completed nor terminated, e.g. after a restart of the dataplane. The
+ * DataFlows are read page by page in the order of their ids by a dedicated thread, while the recoveries run in
+ * parallel on the configured executor, bounded by the configured concurrency. As the pages continue after the last
+ * id read, each DataFlow is recovered at most once, even if its recovery saves it again.
+ *
+ * <p>A recovery runs at most once, and signals readiness once all DataFlows have been recovered or the recovery
+ * failed.
+ */
+public class DataFlowRecovery {
+
+    private int concurrency = 64;
+    private int pageSize = 500;
+    private Executor executor;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<Result<Report>> result = new CompletableFuture<>();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Starts the recovery, unless it has been started before.
+     *
+     * @param dataFlows the query for non-terminal DataFlows, returning those with an id greater than the given one,
+     *                  ordered by id and at most the given number, see
+     *                  {@link org.eclipse.dataplane.port.store.DataFlowStore#findNonTerminal(String, int)}
+     * @param recover the recovery of a single DataFlow
+     * @return a stage completing with the report once all DataFlows have been recovered, it never completes
+     *         exceptionally
+     */
+    public CompletionStage<Result<Report>> run(BiFunction<String, Integer, Result<List<DataFlow>>> dataFlows, Function<DataFlow, CompletionStage<Result<Void>>> recover) {
+        if (started.compareAndSet(false, true)) {
+            if (executor == null) {
+                executor = HandlerExecution.virtualThreads();
+            }
+            var thread = new Thread(() -> result.complete(scan(dataFlows, recover)), "dataplane-recovery");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the recovery has finished, either successfully or not.
+     *
+     * @return true, if the recovery finished
+     */
+    public boolean isReady() {
+        return result.isDone();
+    }
+
+    /**
+     * Returns a stage completing once the recovery has finished, either successfully or not.
+     *
+     * @return the readiness signal
+     */
+    public CompletionStage<Void> ready() {
+        return result.thenApply(it -> null);
+    }
+
+    /**
+     * Returns the number of DataFlows recovered successfully so far.
+     *
+     * @return the number of recovered DataFlows
+     */
+    public long recovered() {
+        return recovered.sum();
+    }
+
+    /**
+     * Returns the number of DataFlows whose recovery failed so far.
+     *
+     * @return the number of failed recoveries
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    private Result<Report> scan(BiFunction<String, Integer, Result<List<DataFlow>>> dataFlows, Function<DataFlow, CompletionStage<Result<Void>>> recover) {
+        var startedAt = System.nanoTime();
+        var permits = new Semaphore(concurrency);
+        var afterId = "";
+        Result<Void> outcome = Result.success();
+        try {
+            while (true) {
+                var page = dataFlows.apply(afterId, pageSize);
+                if (page.failed()) {
+                    outcome = Result.failure(page.getException());
+                    break;
+                }
+                for (var dataFlow : page.getContent()) {
+                    permits.acquire();
+                    submit(dataFlow, recover, permits);
+                }
+                if (page.getContent().size() < pageSize) {
+                    break;
+                }
+                afterId = page.getContent().get(page.getContent().size() - 1).getId();
+            }
+            permits.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Result.failure(e);
+        }
+
+        var duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        return outcome.map(it -> new Report(recovered.sum(), failed.sum(), duration));
+    }
+
+    private void submit(DataFlow dataFlow, Function<DataFlow, CompletionStage<Result<Void>>> recover, Semaphore permits) {
+        try {
+            executor.execute(() -> {
+                CompletionStage<Result<Void>> stage;
+                try {
+                    stage = recover.apply(dataFlow);
+                } catch (RuntimeException e) {
+                    stage = CompletableFuture.completedFuture(Result.failure(e));
+                }
+                stage.whenComplete((result, throwable) -> {
+                    if (throwable == null && result.succeeded()) {
+                        recovered.increment();
+                    } else {
+                        failed.increment();
+                    }
+                    permits.release();
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+            permits.release();
+        }
+    }
+
+    /**
+     * Outcome of a recovery.
+     *
+     * @param recovered the number of DataFlows recovered successfully
+     * @param failed the number of DataFlows whose recovery failed
+     * @param duration the duration of the recovery
+     */
+    public record Report(long recovered, long failed, Duration duration) {
+    }
+
+    public static class Builder {
+
+        private final DataFlowRecovery recovery = new DataFlowRecovery();
+
+        private Builder() {
+
+        }
+
+        public DataFlowRecovery build() {
+            return recovery;
+        }
+
+        /**
+         * Maximum number of DataFlows recovered concurrently, 64 by default.
+         */
+        public Builder concurrency(int concurrency) {
+            recovery.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Number of DataFlows read from the store at once, 500 by default.
+         */
+        public Builder pageSize(int pageSize) {
+            recovery.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Executor running the recoveries, by default a virtual thread is started per DataFlow.
+         */
+        public Builder executor(Executor executor) {
+            recovery.executor = executor;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Strategy for executing the user provided handlers, e.g. {@link OnPrepare} or {@link OnStart}. By default, handlers
+ * are executed on the calling thread, i.e. the thread that received the request. A configured {@link Executor}
+ * decouples the handlers from the calling thread, and the number of concurrently executing handlers can be bounded
+ * per handler type and per control plane.
+ *
+ * <p>Waiting for a permit blocks the executor thread, so bounded execution is best combined with
+ * {@link #virtualThreads()}.
+ */
+public class HandlerExecution {
+
+    private Executor executor = Runnable::run;
+    private int maxConcurrencyPerHandler = Integer.MAX_VALUE;
+    private int maxConcurrencyPerControlPlane = Integer.MAX_VALUE;
+
+    private final Map<String, Semaphore> handlerPermits = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> controlPlanePermits = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Executes handlers on the calling thread without any bound, which is the default behavior.
+     *
+     * @return the handler execution
+     */
+    public static HandlerExecution callerThread() {
+        return newInstance().build();
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread per handler invocation. The SDK targets Java 17, so on
+     * runtimes without virtual threads this falls back to a cached pool of daemon platform threads.
+     *
+     * @return the executor
+     */
+    public static ExecutorService virtualThreads() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            var threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable, "dataplane-handler-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Executes a handler for the given DataFlow, once a permit for both the handler type and the DataFlow's control
+     * plane is available. The permits are held until the stage returned by the handler completes.
+     *
+     * @param handler the handler type, e.g. "onPrepare"
+     * @param dataFlow the DataFlow passed to the handler
+     * @param action the handler
+     * @return the stage returned by the handler
+     */
+    public CompletionStage<Result<DataFlow>> execute(String handler, DataFlow dataFlow, Function<DataFlow, CompletionStage<Result<DataFlow>>> action) {
+        var future = new CompletableFuture<Result<DataFlow>>();
+        var enqueuedAt = System.nanoTime();
+        queueDepth.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                var acquired = new ArrayDeque<Semaphore>();
+                try {
+                    acquire(handlerPermits, handler, maxConcurrencyPerHandler, acquired);
+                    acquire(controlPlanePermits, dataFlow.getControlplaneId(), maxConcurrencyPerControlPlane, acquired);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    release(acquired);
+                    dequeued(enqueuedAt);
+                    future.complete(Result.failure(e));
+                    return;
+                }
+                dequeued(enqueuedAt);
+
+                CompletionStage<Result<DataFlow>> stage;
+                try {
+                    stage = action.apply(dataFlow);
+                } catch (RuntimeException e) {
+                    stage = CompletableFuture.completedFuture(Result.failure(e));
+                }
+                stage.whenComplete((result, throwable) -> {
+                    release(acquired);
+                    if (throwable == null) {
+                        future.complete(result);
+                    } else {
+                        future.completeExceptionally(throwable);
+                    }
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            future.complete(Result.failure(e));
+        }
+        return future;
+    }
+
+    /**
+     * Returns the number of handler invocations currently waiting for execution, either for an executor thread or
+     * for a permit.
+     *
+     * @return the queue depth
+     */
+    public int queueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the average time handler invocations waited before being executed.
+     *
+     * @return the average wait time
+     */
+    public Duration averageWaitTime() {
+        var count = executions.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.sum() / count);
+    }
+
+    /**
+     * Returns the longest time a handler invocation waited before being executed.
+     *
+     * @return the maximum wait time
+     */
+    public Duration maxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    private void acquire(Map<String, Semaphore> permits, String key, int maxConcurrency, Deque<Semaphore> acquired) throws InterruptedException {
+        if (key == null || maxConcurrency == Integer.MAX_VALUE) {
+            return;
+        }
+        var semaphore = permits.computeIfAbsent(key, k -> new Semaphore(maxConcurrency, true));
+        semaphore.acquire();
+        acquired.push(semaphore);
+    }
+
+    private void release(Deque<Semaphore> acquired) {
+        while (!acquired.isEmpty()) {
+            acquired.pop().release();
+        }
+    }
+
+    private void dequeued(long enqueuedAt) {
+        var waitNanos = System.nanoTime() - enqueuedAt;
+        queueDepth.decrementAndGet();
+        executions.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    public static class Builder {
+
+        private final HandlerExecution execution = new HandlerExecution();
+
+        private Builder() {
+
+        }
+
+        public HandlerExecution build() {
+            return execution;
+        }
+
+        public Builder executor(Executor executor) {
+            execution.executor = executor;
+            return this;
+        }
+
+        public Builder maxConcurrencyPerHandler(int maxConcurrencyPerHandler) {
+            execution.maxConcurrencyPerHandler = maxConcurrencyPerHandler;
+            return this;
+        }
+
+        public Builder maxConcurrencyPerControlPlane(int maxConcurrencyPerControlPlane) {
+            execution.maxConcurrencyPerControlPlane = maxConcurrencyPerControlPlane;
+            return this;
+        }
+    }
+}
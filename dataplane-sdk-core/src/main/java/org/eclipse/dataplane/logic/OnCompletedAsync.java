@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous variant of {@link OnCompleted}. Implementations return immediately and complete the returned
+ * stage once the work is done, so that long-running operations don't block the calling thread.
+ */
+@FunctionalInterface
+public interface OnCompletedAsync {
+
+    /**
+     * Performs the logic when a completed notification is received, see {@link OnCompleted#action(DataFlow)}.
+     *
+     * @param dataFlow the data flow
+     * @return a stage completing with a successful or failed {@link Result}, indicating whether the
+     *         action was successful; in case of a failed result, it should provide an exception with error details
+     */
+    CompletionStage<Result<DataFlow>> action(DataFlow dataFlow);
+
+    /**
+     * Adapts a synchronous {@link OnCompleted} handler, which will be executed on the calling thread.
+     *
+     * @param completed the synchronous handler
+     * @return the asynchronous handler
+     */
+    static OnCompletedAsync of(OnCompleted completed) {
+        return dataFlow -> CompletableFuture.completedFuture(completed.action(dataFlow));
+    }
+}
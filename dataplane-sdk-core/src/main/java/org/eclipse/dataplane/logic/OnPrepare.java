@@ -37,6 +37,10 @@ public interface OnPrepare {
      * preparation is complete. The Dataplane will then call this method again so that the
      * DataAddress can be set on the DataFlow before continuing.
      *
+     * Signaling calls for the same data flow made from within this method, e.g.
+     * {@link org.eclipse.dataplane.Dataplane#notifyErrored(String, Throwable)}, run right away as part of the
+     * current operation instead of waiting for it to complete.
+     *
      * @param dataFlow the data flow
      * @return a successful or failed {@link Result}, indicating whether the action was successful;
      *         in case of a failed result, it should provide an exception with error details
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+/**
+ * Contains the logic for recovering a DataFlow after a restart of the dataplane. It is called by
+ * {@link org.eclipse.dataplane.Dataplane#recover()} for every DataFlow that is neither completed nor terminated.
+ */
+public interface OnRecover {
+
+    /**
+     * Performs the logic when a DataFlow is recovered, e.g. resuming the data transfer of a started DataFlow, or
+     * re-validating the resources provisioned for a preparing or starting one. The state of the DataFlow may be
+     * changed, e.g. by terminating a DataFlow that cannot be resumed, the returned DataFlow is saved.
+     *
+     * @param dataFlow the data flow
+     * @return a successful or failed {@link Result}, indicating whether the action was successful;
+     *         in case of a failed result, it should provide an exception with error details
+     */
+    Result<DataFlow> action(DataFlow dataFlow);
+
+}
@@ -0,0 +1,305 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for large numbers of coarse-grained timeouts. Scheduling and cancelling a timeout costs O(1): new
+ * timeouts are queued and hashed into one of the wheel's buckets by a single worker thread, which advances the wheel
+ * every tick and expires the timeouts of the current bucket. Timeouts therefore expire up to one tick late.
+ *
+ * <p>Expired tasks run on the configured executor, so long-running tasks do not delay the wheel. The worker thread is
+ * started with the first scheduled timeout and is a daemon thread.
+ */
+public class TimingWheel {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private long tickNanos = Duration.ofMillis(100).toNanos();
+    private Bucket[] wheel = createWheel(512);
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private final Queue<Entry> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancellations = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean stopped;
+    private volatile long startTime;
+    private Thread worker;
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Schedules the task to run once the delay elapsed.
+     *
+     * @param task the task
+     * @param delay the delay
+     * @return the timeout, which can be used to cancel the task
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        if (stopped) {
+            throw new IllegalStateException("TimingWheel has been stopped");
+        }
+        start();
+
+        var entry = new Entry(task, System.nanoTime() + delay.toNanos() - startTime);
+        pending.incrementAndGet();
+        additions.add(entry);
+        return entry;
+    }
+
+    /**
+     * Returns the number of scheduled timeouts that neither expired nor were cancelled.
+     *
+     * @return the number of pending timeouts
+     */
+    public long pending() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the worker thread. Pending timeouts are discarded.
+     */
+    public void stop() {
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            startTime = System.nanoTime();
+            worker = new Thread(this::run, "dataplane-timing-wheel");
+            worker.setDaemon(true);
+            worker.start();
+        } else {
+            while (startTime == 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void run() {
+        var tick = 0L;
+        while (!stopped) {
+            var deadline = (tick + 1) * tickNanos;
+            var sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            removeCancelled();
+            transferAdditions(tick);
+            wheel[(int) (tick & (wheel.length - 1))].expire();
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Entry entry;
+        while ((entry = cancellations.poll()) != null) {
+            if (entry.bucket != null) {
+                entry.bucket.remove(entry);
+            }
+        }
+    }
+
+    private void transferAdditions(long tick) {
+        for (var i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            var entry = additions.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.state.get() == Entry.CANCELLED) {
+                continue;
+            }
+
+            var expirationTick = Math.max(entry.deadlineNanos / tickNanos, tick);
+            entry.remainingRounds = (expirationTick - tick) / wheel.length;
+            wheel[(int) (expirationTick & (wheel.length - 1))].add(entry);
+        }
+    }
+
+    private static Bucket[] createWheel(int size) {
+        var normalized = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        var wheel = new Bucket[normalized];
+        for (var i = 0; i < normalized; i++) {
+            wheel[i] = new Bucket();
+        }
+        return wheel;
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels the task, if it has not expired yet.
+         *
+         * @return true, if the task was cancelled
+         */
+        boolean cancel();
+
+        boolean isExpired();
+    }
+
+    private final class Entry implements Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds;
+        private Bucket bucket;
+        private Entry previous;
+        private Entry next;
+
+        Entry(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            pending.decrementAndGet();
+            cancellations.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        void expire() {
+            if (state.compareAndSet(INIT, EXPIRED)) {
+                pending.decrementAndGet();
+                executor.execute(task);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the entries hashed to one slot of the wheel, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            if (head == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+                entry.previous = tail;
+            }
+            tail = entry;
+        }
+
+        void expire() {
+            var entry = head;
+            while (entry != null) {
+                var next = entry.next;
+                if (entry.state.get() == Entry.CANCELLED) {
+                    remove(entry);
+                } else if (entry.remainingRounds <= 0) {
+                    remove(entry);
+                    entry.expire();
+                } else {
+                    entry.remainingRounds--;
+                }
+                entry = next;
+            }
+        }
+
+        void remove(Entry entry) {
+            if (entry.bucket != this) {
+                return;
+            }
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.previous = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+    }
+
+    public static class Builder {
+
+        private final TimingWheel timingWheel = new TimingWheel();
+
+        private Builder() {
+
+        }
+
+        public TimingWheel build() {
+            return timingWheel;
+        }
+
+        /**
+         * Duration of one tick, i.e. the precision of the timeouts.
+         */
+        public Builder tickDuration(Duration tickDuration) {
+            timingWheel.tickNanos = tickDuration.toNanos();
+            return this;
+        }
+
+        /**
+         * Number of buckets of the wheel, rounded up to the next power of two.
+         */
+        public Builder wheelSize(int wheelSize) {
+            timingWheel.wheel = createWheel(wheelSize);
+            return this;
+        }
+
+        /**
+         * Executor running the expired tasks.
+         */
+        public Builder executor(Executor executor) {
+            timingWheel.executor = executor;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.port.exception.DataFlowNotifyControlPlaneFailed;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects callbacks per control plane into micro-batches, which are flushed once the linger time of the batch
+ * elapsed or the batch is full. The signaling specification has no batch endpoint, so the callbacks of a batch are
+ * delivered concurrently through the {@link CallbackDispatcher}, one after another per DataFlow.
+ *
+ * <p>While a batch is lingering, a terminal callback (completed, errored) for a DataFlow supersedes its pending
+ * intermediate callbacks (prepared, started) whose content it fully replaces: these are dropped, as the control plane
+ * learns about the final state anyway. Intermediate callbacks carrying information the terminal one lacks, like the
+ * data address of a started DataFlow, are delivered before it.
+ */
+public class CallbackCoalescer {
+
+    private Duration linger = Duration.ofMillis(20);
+    private int maxBatchSize = 100;
+    private CallbackDispatcher dispatcher = CallbackDispatcher.newInstance().maxAttempts(1).build();
+
+    private final Map<String, Batch> batches = new HashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder superseded = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Submits a callback to the batch of the given control plane.
+     *
+     * @param controlPlaneId the control plane the callback is sent to
+     * @param dataFlowId the DataFlow the callback refers to
+     * @param action the notified action, e.g. "started"
+     * @param terminal whether the callback notifies about a final state
+     * @param supersedable whether a later terminal callback replaces all the content of this callback, e.g. as it
+     *                     carries no data address
+     * @param request the callback request
+     * @param httpClient the client used to send the request
+     * @return a stage completing once the callback was delivered, or superseded by a later one; it never
+     *         completes exceptionally
+     */
+    public CompletionStage<Result<Void>> submit(String controlPlaneId, String dataFlowId, String action, boolean terminal, boolean supersedable,
+                                                HttpRequest request, HttpClient httpClient) {
+        var callback = new Callback(dataFlowId, action, !terminal && supersedable, request, httpClient);
+        submitted.increment();
+
+        Batch full = null;
+        synchronized (batches) {
+            var batch = batches.get(controlPlaneId);
+            if (batch == null) {
+                batch = new Batch();
+                batches.put(controlPlaneId, batch);
+                var scheduled = batch;
+                CompletableFuture.delayedExecutor(linger.toMillis(), TimeUnit.MILLISECONDS)
+                        .execute(() -> flush(controlPlaneId, scheduled));
+            }
+
+            var pending = batch.callbacks.computeIfAbsent(dataFlowId, id -> new ArrayList<>());
+            if (terminal) {
+                var intermediate = pending.stream().filter(it -> it.supersedable).toList();
+                intermediate.forEach(it -> it.result.complete(Result.success()));
+                pending.removeAll(intermediate);
+                batch.size -= intermediate.size();
+                superseded.add(intermediate.size());
+            }
+            pending.add(callback);
+            batch.size++;
+
+            if (batch.size >= maxBatchSize) {
+                batches.remove(controlPlaneId);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            deliver(full);
+        }
+        return callback.result;
+    }
+
+    public long submitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * Returns the number of callbacks that were dropped because a later callback superseded them.
+     *
+     * @return the number of superseded callbacks
+     */
+    public long superseded() {
+        return superseded.sum();
+    }
+
+    /**
+     * Returns the number of batches delivered.
+     *
+     * @return the number of batches
+     */
+    public long flushed() {
+        return flushed.sum();
+    }
+
+    private void flush(String controlPlaneId, Batch batch) {
+        synchronized (batches) {
+            if (!batches.remove(controlPlaneId, batch)) {
+                return;
+            }
+        }
+        deliver(batch);
+    }
+
+    private void deliver(Batch batch) {
+        flushed.increment();
+        batch.callbacks.values().stream().flatMap(List::stream).forEach(callback ->
+                dispatcher.dispatch(callback.dataFlowId, callback.request, callback.httpClient)
+                        .thenAccept(result -> callback.result.complete(result.compose(response -> {
+                            if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                                return Result.success();
+                            }
+                            return Result.failure(new DataFlowNotifyControlPlaneFailed(callback.action, response));
+                        }))));
+    }
+
+    private static class Batch {
+        private final Map<String, List<Callback>> callbacks = new LinkedHashMap<>();
+        private int size;
+    }
+
+    private static class Callback {
+        private final String dataFlowId;
+        private final String action;
+        private final boolean supersedable;
+        private final HttpRequest request;
+        private final HttpClient httpClient;
+        private final CompletableFuture<Result<Void>> result = new CompletableFuture<>();
+
+        Callback(String dataFlowId, String action, boolean supersedable, HttpRequest request, HttpClient httpClient) {
+            this.dataFlowId = dataFlowId;
+            this.action = action;
+            this.supersedable = supersedable;
+            this.request = request;
+            this.httpClient = httpClient;
+        }
+    }
+
+    public static class Builder {
+
+        private final CallbackCoalescer coalescer = new CallbackCoalescer();
+
+        private Builder() {
+
+        }
+
+        public CallbackCoalescer build() {
+            return coalescer;
+        }
+
+        /**
+         * Latency budget of a batch, i.e. how long callbacks are collected before the batch is delivered.
+         */
+        public Builder linger(Duration linger) {
+            coalescer.linger = linger;
+            return this;
+        }
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            coalescer.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Dispatcher delivering the callbacks, e.g. to enable retries.
+         */
+        public Builder dispatcher(CallbackDispatcher dispatcher) {
+            coalescer.dispatcher = dispatcher;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.logic.DataFlowMailbox;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers callbacks to the control plane asynchronously. Requests failing with an {@link IOException}, e.g. a
+ * refused connection or a timeout, or with status 408, 429 or 5xx are retried with exponential backoff and jitter.
+ * Callbacks for the same DataFlow are delivered one after another in submission order.
+ *
+ * <p>The number of pending callbacks is bounded, callbacks exceeding the capacity are rejected immediately, so
+ * the caller never blocks on callback delivery.
+ */
+public class CallbackDispatcher {
+
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofMillis(500);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    private int capacity = 10_000;
+
+    private final DataFlowMailbox mailbox = new DataFlowMailbox();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Queues a callback for delivery.
+     *
+     * @param dataFlowId the id of the DataFlow the callback refers to, used for ordering
+     * @param request the callback request
+     * @param httpClient the client used to send the request
+     * @return a stage completing with the last response received, or a failure if no response was received or the
+     *         callback was rejected; it never completes exceptionally
+     */
+    public CompletionStage<Result<HttpResponse<String>>> dispatch(String dataFlowId, HttpRequest request, HttpClient httpClient) {
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            rejected.increment();
+            return CompletableFuture.completedFuture(Result.failure(
+                    new RejectedExecutionException("Callback queue is full, %d callbacks pending".formatted(capacity))));
+        }
+
+        return mailbox.submit(dataFlowId, () -> send(request, httpClient, 1))
+                .whenComplete((result, throwable) -> {
+                    pending.decrementAndGet();
+                    if (result != null && result.succeeded() && isSuccessful(result.getContent())) {
+                        delivered.increment();
+                    } else {
+                        failed.increment();
+                    }
+                });
+    }
+
+    /**
+     * Returns the number of callbacks that are queued, in flight or waiting for a retry.
+     *
+     * @return the number of pending callbacks
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    public long delivered() {
+        return delivered.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public long retried() {
+        return retried.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private CompletionStage<Result<HttpResponse<String>>> send(HttpRequest request, HttpClient httpClient, int attempt) {
+        return Result.success(request)
+                .composeAsync(it -> httpClient.sendAsync(it, HttpResponse.BodyHandlers.ofString()).thenApply(Result::success))
+                .thenCompose(result -> {
+                    if (attempt >= maxAttempts || !isRetryable(result)) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+
+                    retried.increment();
+                    var delayed = CompletableFuture.delayedExecutor(backoff(attempt).toMillis(), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(v -> send(request, httpClient, attempt + 1));
+                });
+    }
+
+    private boolean isRetryable(Result<HttpResponse<String>> result) {
+        if (result.failed()) {
+            return result.getException() instanceof IOException;
+        }
+        var statusCode = result.getContent().statusCode();
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    private boolean isSuccessful(HttpResponse<String> response) {
+        return response.statusCode() >= 200 && response.statusCode() < 300;
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": the delay is drawn uniformly from the upper half of the exponential
+     * step, so retries of callbacks failing at the same time spread out while still backing off.
+     */
+    private Duration backoff(int attempt) {
+        var exponential = initialBackoff.toMillis() << Math.min(attempt - 1, 30);
+        var step = Math.max(1, Math.min(maxBackoff.toMillis(), exponential));
+        return Duration.ofMillis(step / 2 + ThreadLocalRandom.current().nextLong(step / 2 + 1));
+    }
+
+    public static class Builder {
+
+        private final CallbackDispatcher dispatcher = new CallbackDispatcher();
+
+        private Builder() {
+
+        }
+
+        public CallbackDispatcher build() {
+            return dispatcher;
+        }
+
+        /**
+         * Maximum number of delivery attempts per callback, 1 disables retries.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            dispatcher.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder initialBackoff(Duration initialBackoff) {
+            dispatcher.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(Duration maxBackoff) {
+            dispatcher.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Maximum number of pending callbacks, further callbacks are rejected.
+         */
+        public Builder capacity(int capacity) {
+            dispatcher.capacity = capacity;
+            return this;
+        }
+    }
+}
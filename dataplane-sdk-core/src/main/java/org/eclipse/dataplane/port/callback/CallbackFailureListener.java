@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+/**
+ * Observes notifications to the control plane that could not be delivered in the background, i.e. through a
+ * {@link CallbackDispatcher} or a {@link CallbackCoalescer}, once all attempts failed or the notification was rejected.
+ * The new state of the data flow has already been saved at that point, so the listener may e.g. alert or re-notify.
+ */
+@FunctionalInterface
+public interface CallbackFailureListener {
+
+    void onCallbackFailed(String dataFlowId, String action, Exception exception);
+}
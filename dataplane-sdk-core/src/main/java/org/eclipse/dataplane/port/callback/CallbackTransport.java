@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Settings of the HTTP transport used for requests to control planes, i.e. notifications and registration. Holds
+ * either one {@link HttpClient} shared by all control planes, or one client per control plane, so that a slow or
+ * hung control plane can't exhaust the connections used for the others.
+ */
+public class CallbackTransport {
+
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration requestTimeout = Duration.ofSeconds(30);
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+    private Executor executor;
+    private boolean clientPerControlPlane;
+    private boolean warmUp;
+
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> warmedOrigins = new ConcurrentHashMap<>();
+    private HttpClient sharedClient;
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the client to be used for requests to the given control plane.
+     *
+     * @param controlPlaneId the control plane id, null for requests not related to a registered control plane
+     * @return the client
+     */
+    public HttpClient client(String controlPlaneId) {
+        if (clientPerControlPlane && controlPlaneId != null) {
+            return clients.computeIfAbsent(controlPlaneId, id -> newClient());
+        }
+        return sharedClient;
+    }
+
+    /**
+     * Creates a request builder for the given URI with the configured request timeout applied.
+     *
+     * @param uri the request URI
+     * @return the request builder
+     */
+    public HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(requestTimeout);
+    }
+
+    /**
+     * Establishes a connection to the origin of a callback address in the background, so that the first notification
+     * to it doesn't pay for the connection and TLS handshake. Each origin is warmed up once per client, with an
+     * unauthenticated HEAD request to its root. The response is irrelevant, failures are ignored.
+     *
+     * @param controlPlaneId the control plane id
+     * @param callbackAddress the callback address of a data flow
+     * @return a stage completing once the warm-up finished, it never completes exceptionally
+     */
+    public CompletionStage<Void> warmUp(String controlPlaneId, URI callbackAddress) {
+        if (!warmUp || callbackAddress == null || callbackAddress.getScheme() == null || callbackAddress.getRawAuthority() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var origin = callbackAddress.getScheme() + "://" + callbackAddress.getRawAuthority();
+        var clientKey = clientPerControlPlane && controlPlaneId != null ? controlPlaneId : "";
+        if (!warmedOrigins.computeIfAbsent(clientKey, key -> ConcurrentHashMap.newKeySet()).add(origin)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            var request = request(URI.create(origin + "/")).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+            return client(controlPlaneId).sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, throwable) -> null);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Releases the client dedicated to the given control plane, e.g. once the control plane got deleted.
+     *
+     * @param controlPlaneId the control plane id
+     */
+    public void release(String controlPlaneId) {
+        clients.remove(controlPlaneId);
+        warmedOrigins.remove(controlPlaneId);
+    }
+
+    private HttpClient newClient() {
+        var builder = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(version);
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    public static class Builder {
+
+        private final CallbackTransport transport = new CallbackTransport();
+
+        private Builder() {
+
+        }
+
+        public CallbackTransport build() {
+            transport.sharedClient = transport.newClient();
+            return transport;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            transport.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            transport.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Whether to prefer HTTP/2, which is the default, or to stick to HTTP/1.1.
+         */
+        public Builder preferHttp2(boolean preferHttp2) {
+            transport.version = preferHttp2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+            return this;
+        }
+
+        /**
+         * Executor for the asynchronous tasks of the clients, by default each client uses its own cached pool.
+         */
+        public Builder executor(Executor executor) {
+            transport.executor = executor;
+            return this;
+        }
+
+        public Builder clientPerControlPlane(boolean clientPerControlPlane) {
+            transport.clientPerControlPlane = clientPerControlPlane;
+            return this;
+        }
+
+        /**
+         * Whether to establish connections to the callback addresses of data flows when they are prepared or started,
+         * disabled by default.
+         */
+        public Builder warmUp(boolean warmUp) {
+            transport.warmUp = warmUp;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.eclipse.dataplane.domain.DataAddress;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStatusMessage;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes outgoing messages directly to UTF-8 encoded bytes, to be sent with
+ * {@link java.net.http.HttpRequest.BodyPublishers#ofByteArray(byte[])}. The {@link ObjectWriter} for each message type
+ * is created once and reused. Hot message types can be serialized by a hand-written {@link Encoder} instead, which
+ * streams the fields without going through reflection-based binding.
+ */
+public class MessageCodec {
+
+    private static final SerializableString MESSAGE_ID_FIELD = new SerializedString("messageId");
+    private static final SerializableString DATA_FLOW_ID_FIELD = new SerializedString("dataFlowId");
+    private static final SerializableString STATE_FIELD = new SerializedString("state");
+    private static final SerializableString DATA_ADDRESS_FIELD = new SerializedString("dataAddress");
+    private static final SerializableString ERROR_FIELD = new SerializedString("error");
+    private static final SerializableString ENDPOINT_TYPE_FIELD = new SerializedString("endpointType");
+    private static final SerializableString ENDPOINT_FIELD = new SerializedString("endpoint");
+    private static final SerializableString ENDPOINT_PROPERTIES_FIELD = new SerializedString("endpointProperties");
+    private static final SerializableString TYPE_FIELD = new SerializedString("type");
+    private static final SerializableString NAME_FIELD = new SerializedString("name");
+    private static final SerializableString VALUE_FIELD = new SerializedString("value");
+    private static final SerializableString JSON_LD_TYPE_FIELD = new SerializedString("@type");
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Encoder<?>> encoders = new ConcurrentHashMap<>();
+
+    public MessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates a codec with hand-written encoders for the messages sent on every DataFlow state change.
+     *
+     * @param objectMapper the object mapper
+     * @return the codec
+     */
+    public static MessageCodec withDefaultEncoders(ObjectMapper objectMapper) {
+        return new MessageCodec(objectMapper)
+                .register(DataFlowStatusMessage.class, MessageCodec::encodeStatusMessage);
+    }
+
+    /**
+     * Registers a hand-written encoder for the given message type, replacing the {@link ObjectWriter}.
+     *
+     * @param type the message type
+     * @param encoder the encoder
+     * @return the codec
+     */
+    public <T> MessageCodec register(Class<T> type, Encoder<T> encoder) {
+        encoders.put(type, encoder);
+        return this;
+    }
+
+    /**
+     * Serializes the message to UTF-8 encoded JSON.
+     *
+     * @param message the message
+     * @return a successful result containing the serialized message, or a failed result if serialization failed
+     */
+    public Result<byte[]> encode(Object message) {
+        try {
+            var encoder = encoders.get(message.getClass());
+            if (encoder != null) {
+                return Result.success(stream(message, encoder));
+            }
+            var writer = writers.computeIfAbsent(message.getClass(), objectMapper::writerFor);
+            return Result.success(writer.writeValueAsBytes(message));
+        } catch (IOException e) {
+            return Result.failure(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> byte[] stream(Object message, Encoder<T> encoder) throws IOException {
+        var output = new ByteArrayBuilder();
+        try (var generator = objectMapper.getFactory().createGenerator(output)) {
+            encoder.encode((T) message, generator);
+        }
+        return output.toByteArray();
+    }
+
+    private static void encodeStatusMessage(DataFlowStatusMessage message, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, MESSAGE_ID_FIELD, message.messageId());
+        writeStringField(generator, DATA_FLOW_ID_FIELD, message.dataFlowId());
+        writeStringField(generator, STATE_FIELD, message.state());
+        if (message.dataAddress() != null) {
+            generator.writeFieldName(DATA_ADDRESS_FIELD);
+            encodeDataAddress(message.dataAddress(), generator);
+        }
+        writeStringField(generator, ERROR_FIELD, message.error());
+        generator.writeEndObject();
+    }
+
+    private static void encodeDataAddress(DataAddress dataAddress, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, ENDPOINT_TYPE_FIELD, dataAddress.endpointType());
+        writeStringField(generator, ENDPOINT_FIELD, dataAddress.endpoint());
+        if (dataAddress.endpointProperties() != null) {
+            generator.writeFieldName(ENDPOINT_PROPERTIES_FIELD);
+            generator.writeStartArray();
+            for (var property : dataAddress.endpointProperties()) {
+                generator.writeStartObject();
+                writeStringField(generator, TYPE_FIELD, property.type());
+                writeStringField(generator, NAME_FIELD, property.name());
+                writeStringField(generator, VALUE_FIELD, property.value());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        writeStringField(generator, JSON_LD_TYPE_FIELD, dataAddress.getType());
+        generator.writeEndObject();
+    }
+
+    private static void writeStringField(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+
+    /**
+     * Hand-written serialization of a message type.
+     *
+     * @param <T> the message type
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+
+        /**
+         * Writes the message as a JSON object.
+         *
+         * @param message the message
+         * @param generator the generator to write to
+         * @throws IOException if writing failed
+         */
+        void encode(T message, JsonGenerator generator) throws IOException;
+    }
+}
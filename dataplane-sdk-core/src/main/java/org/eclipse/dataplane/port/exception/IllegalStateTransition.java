@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.exception;
+
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+/**
+ * Indicates that a message cannot be applied to a DataFlow in its current state, e.g. a terminate request for an
+ * already completed DataFlow.
+ */
+public class IllegalStateTransition extends Exception {
+
+    public IllegalStateTransition(String dataFlowId, DataFlow.State current, DataFlow.State target) {
+        super("DataFlow %s cannot transition from %s to %s".formatted(dataFlowId, current, target));
+    }
+
+}
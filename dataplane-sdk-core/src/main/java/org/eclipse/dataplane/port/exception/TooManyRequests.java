@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.exception;
+
+import java.time.Duration;
+
+/**
+ * Indicates that a control plane exceeded its rate limit or its number of concurrent requests.
+ */
+public class TooManyRequests extends Exception {
+
+    private final Duration retryAfter;
+
+    public TooManyRequests(String controlplaneId, String reason, Duration retryAfter) {
+        super("Request of control plane %s rejected: %s".formatted(controlplaneId, reason));
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
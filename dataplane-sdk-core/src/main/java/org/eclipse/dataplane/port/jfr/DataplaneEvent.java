@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Base of the JDK Flight Recorder events emitted by the dataplane. They are disabled by default and can be enabled
+ * per event type in the recording settings, e.g. with {@code jfr configure +org.eclipse.dataplane.Signaling#enabled=true}.
+ */
+@Category("Dataplane")
+@Enabled(false)
+@StackTrace(false)
+public abstract class DataplaneEvent extends Event {
+
+    @Label("DataFlow Id")
+    String dataFlowId;
+
+    @Label("State")
+    String state;
+
+    @Label("Transfer Type")
+    String transferType;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Sets the data flow attributes of the event.
+     *
+     * @param dataFlow the data flow, may be null
+     * @return the event
+     */
+    public DataplaneEvent describe(DataFlow dataFlow) {
+        if (dataFlow != null) {
+            dataFlowId = dataFlow.getId();
+            state = dataFlow.getState() == null ? null : dataFlow.getState().name();
+            transferType = dataFlow.getTransferType();
+        }
+        return this;
+    }
+
+    /**
+     * Starts the event with the attributes of the given data flow, if it's enabled.
+     *
+     * @param dataFlow the data flow, may be null
+     * @return the event
+     */
+    public DataplaneEvent begin(DataFlow dataFlow) {
+        if (isEnabled()) {
+            describe(dataFlow).begin();
+        }
+        return this;
+    }
+
+    /**
+     * Ends the event once the given stage completes, if it's enabled.
+     *
+     * @param stage the stage of the recorded operation
+     * @return the stage
+     */
+    public <T> CompletionStage<Result<T>> endOnCompletion(CompletionStage<Result<T>> stage) {
+        if (!isEnabled()) {
+            return stage;
+        }
+        return stage.whenComplete((result, throwable) -> end(throwable == null && result.succeeded()));
+    }
+
+    /**
+     * Ends the event and commits it, if it's enabled and exceeds the configured threshold.
+     *
+     * @param success whether the recorded operation succeeded
+     */
+    public void end(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
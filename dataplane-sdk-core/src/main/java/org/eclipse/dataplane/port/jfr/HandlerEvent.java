@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.eclipse.dataplane.Handler")
+@Label("Handler Execution")
+@Description("The execution of a user handler, e.g. onPrepare")
+public class HandlerEvent extends DataplaneEvent {
+
+    @Label("Handler")
+    String handler;
+
+    public HandlerEvent(String handler) {
+        this.handler = handler;
+    }
+}
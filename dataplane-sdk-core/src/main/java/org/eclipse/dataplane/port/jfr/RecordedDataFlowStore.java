@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.jfr;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
+import org.eclipse.dataplane.port.store.DataFlowStore;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link DataFlowStore} emitting a {@link StoreEvent} for each call to the decorated store, if the event is enabled.
+ */
+public class RecordedDataFlowStore implements DataFlowStore {
+
+    private final DataFlowStore delegate;
+
+    public RecordedDataFlowStore(DataFlowStore delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Result<Void> save(DataFlow dataFlow) {
+        var event = new StoreEvent("save");
+        if (!event.isEnabled()) {
+            return delegate.save(dataFlow);
+        }
+
+        event.describe(dataFlow).begin();
+        var result = delegate.save(dataFlow);
+        event.end(result.succeeded());
+        return result;
+    }
+
+    @Override
+    public Result<DataFlow> findById(String flowId) {
+        var event = new StoreEvent("findById");
+        if (!event.isEnabled()) {
+            return delegate.findById(flowId);
+        }
+
+        event.dataFlowId = flowId;
+        event.begin();
+        var result = delegate.findById(flowId);
+        if (result.succeeded()) {
+            event.describe(result.getContent());
+        }
+        event.end(result.succeeded());
+        return result;
+    }
+
+    @Override
+    public Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        var event = new StoreEvent("findChangedSince");
+        if (!event.isEnabled()) {
+            return delegate.findChangedSince(watermark, limit);
+        }
+
+        event.begin();
+        var result = delegate.findChangedSince(watermark, limit);
+        event.end(result.succeeded());
+        return result;
+    }
+
+    @Override
+    public Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        var event = new StoreEvent("findNonTerminal");
+        if (!event.isEnabled()) {
+            return delegate.findNonTerminal(afterId, limit);
+        }
+
+        event.begin();
+        var result = delegate.findNonTerminal(afterId, limit);
+        event.end(result.succeeded());
+        return result;
+    }
+
+    @Override
+    public Result<Map<DataFlow.State, Long>> countByState() {
+        return delegate.countByState();
+    }
+}
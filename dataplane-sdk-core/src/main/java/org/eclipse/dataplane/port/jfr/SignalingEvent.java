@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.eclipse.dataplane.Signaling")
+@Label("Signaling Operation")
+@Description("A signaling operation, e.g. prepare or notifyCompleted, from submission until completion")
+public class SignalingEvent extends DataplaneEvent {
+
+    @Label("Operation")
+    String operation;
+
+    public SignalingEvent(String operation, String dataFlowId) {
+        this.operation = operation;
+        this.dataFlowId = dataFlowId;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.metrics;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Metrics of a {@link org.eclipse.dataplane.Dataplane}: a {@link Timer} per signaling operation, handler, store call
+ * and control plane callback, and the number of DataFlows per state, which is read from the store on demand.
+ *
+ * <p>Counting the DataFlows per state may be expensive, e.g. a full {@code GROUP BY} over the SQL stores, so the
+ * counts are cached for a configurable maximum age, 5 seconds by default, and read at most once per age even if
+ * scraped more often.
+ */
+public class DataplaneMetrics {
+
+    private final Map<String, Timer> operations = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handlers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> storeCalls = new ConcurrentHashMap<>();
+    private final Map<String, Timer> callbacks = new ConcurrentHashMap<>();
+    private final long dataFlowsByStateMaxAgeNanos;
+    private volatile Supplier<Result<Map<DataFlow.State, Long>>> dataFlowsByState = () -> Result.success(Map.of());
+    private volatile CachedCounts cachedCounts;
+
+    public DataplaneMetrics() {
+        this(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Creates the metrics, caching the number of DataFlows per state for the given maximum age.
+     *
+     * @param dataFlowsByStateMaxAge the maximum age of the cached counts, zero to read them on every call
+     */
+    public DataplaneMetrics(Duration dataFlowsByStateMaxAge) {
+        this.dataFlowsByStateMaxAgeNanos = dataFlowsByStateMaxAge.toNanos();
+    }
+
+    /**
+     * Returns the timer of a signaling operation, e.g. "prepare" or "notifyCompleted".
+     */
+    public Timer operation(String name) {
+        return timer(operations, name);
+    }
+
+    /**
+     * Returns the timer of a handler, e.g. "onPrepare".
+     */
+    public Timer handler(String name) {
+        return timer(handlers, name);
+    }
+
+    /**
+     * Returns the timer of a DataFlow store call, e.g. "save".
+     */
+    public Timer storeCall(String name) {
+        return timer(storeCalls, name);
+    }
+
+    /**
+     * Returns the timer of a control plane callback, e.g. "completed".
+     */
+    public Timer callback(String action) {
+        return timer(callbacks, action);
+    }
+
+    public Map<String, Timer> operations() {
+        return Collections.unmodifiableMap(operations);
+    }
+
+    public Map<String, Timer> handlers() {
+        return Collections.unmodifiableMap(handlers);
+    }
+
+    public Map<String, Timer> storeCalls() {
+        return Collections.unmodifiableMap(storeCalls);
+    }
+
+    public Map<String, Timer> callbacks() {
+        return Collections.unmodifiableMap(callbacks);
+    }
+
+    /**
+     * Returns the number of DataFlows per state, read from the source unless the cached counts are younger than the
+     * maximum age.
+     *
+     * @return a successful result holding the number of DataFlows per state, or a failed result if the store cannot
+     *         count them
+     */
+    public Result<Map<DataFlow.State, Long>> dataFlowsByState() {
+        var cached = cachedCounts;
+        if (cached != null && System.nanoTime() - cached.readAt() < dataFlowsByStateMaxAgeNanos) {
+            return cached.counts();
+        }
+        synchronized (this) {
+            cached = cachedCounts;
+            if (cached == null || System.nanoTime() - cached.readAt() >= dataFlowsByStateMaxAgeNanos) {
+                cached = new CachedCounts(dataFlowsByState.get(), System.nanoTime());
+                cachedCounts = cached;
+            }
+            return cached.counts();
+        }
+    }
+
+    /**
+     * Sets the source of the number of DataFlows per state, usually {@link org.eclipse.dataplane.port.store.DataFlowStore#countByState()}.
+     *
+     * @param dataFlowsByState the source
+     */
+    public void dataFlowsByState(Supplier<Result<Map<DataFlow.State, Long>>> dataFlowsByState) {
+        this.dataFlowsByState = dataFlowsByState;
+        this.cachedCounts = null;
+    }
+
+    private Timer timer(Map<String, Timer> timers, String name) {
+        var timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, k -> new Timer());
+    }
+
+    private record CachedCounts(Result<Map<DataFlow.State, Long>> counts, long readAt) {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed buckets from 100 microseconds to 10 seconds. Each bucket is a striped
+ * {@link LongAdder}, so concurrent recordings don't contend on a shared counter.
+ */
+public class LatencyHistogram {
+
+    private static final double[] UPPER_BOUNDS_SECONDS = {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    private static final long[] UPPER_BOUNDS_NANOS = Arrays.stream(UPPER_BOUNDS_SECONDS)
+            .mapToLong(seconds -> (long) (seconds * TimeUnit.SECONDS.toNanos(1)))
+            .toArray();
+
+    private final LongAdder[] buckets = new LongAdder[UPPER_BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (var i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        var index = Arrays.binarySearch(UPPER_BOUNDS_NANOS, nanos);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Returns the recorded latencies. As recordings are not blocked while taking the snapshot, it may be slightly
+     * inconsistent, e.g. the sum may include a latency that is not counted yet.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        var cumulativeCounts = new long[buckets.length];
+        var count = 0L;
+        for (var i = 0; i < buckets.length; i++) {
+            count += buckets[i].sum();
+            cumulativeCounts[i] = count;
+        }
+        return new Snapshot(UPPER_BOUNDS_SECONDS.clone(), cumulativeCounts, count, sumNanos.sum() / 1e9);
+    }
+
+    /**
+     * Recorded latencies.
+     *
+     * @param upperBounds the upper bounds of the buckets in seconds, without the implicit +Inf bucket
+     * @param cumulativeCounts the number of latencies less than or equal to each upper bound, the last element
+     *                         counting all latencies
+     * @param count the number of recorded latencies
+     * @param sum the sum of the recorded latencies in seconds
+     */
+    public record Snapshot(double[] upperBounds, long[] cumulativeCounts, long count, double sum) {
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.metrics;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
+import org.eclipse.dataplane.port.store.DataFlowStore;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link DataFlowStore} recording the latency and failures of each call to the decorated store.
+ */
+public class MeteredDataFlowStore implements DataFlowStore {
+
+    private final DataFlowStore delegate;
+    private final Timer save;
+    private final Timer findById;
+    private final Timer findChangedSince;
+    private final Timer findNonTerminal;
+
+    public MeteredDataFlowStore(DataFlowStore delegate, DataplaneMetrics metrics) {
+        this.delegate = delegate;
+        this.save = metrics.storeCall("save");
+        this.findById = metrics.storeCall("findById");
+        this.findChangedSince = metrics.storeCall("findChangedSince");
+        this.findNonTerminal = metrics.storeCall("findNonTerminal");
+    }
+
+    @Override
+    public Result<Void> save(DataFlow dataFlow) {
+        return save.time(() -> delegate.save(dataFlow));
+    }
+
+    @Override
+    public Result<DataFlow> findById(String flowId) {
+        return findById.time(() -> delegate.findById(flowId));
+    }
+
+    @Override
+    public Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        return findChangedSince.time(() -> delegate.findChangedSince(watermark, limit));
+    }
+
+    @Override
+    public Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        return findNonTerminal.time(() -> delegate.findNonTerminal(afterId, limit));
+    }
+
+    @Override
+    public Result<Map<DataFlow.State, Long>> countByState() {
+        return delegate.countByState();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.metrics;
+
+import org.eclipse.dataplane.domain.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Measures the latency and counts the failures of an operation returning a {@link Result}.
+ */
+public class Timer {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Runs the operation and records its latency, counting a failed result as failure.
+     *
+     * @param operation the operation
+     * @return the result of the operation
+     */
+    public <T> Result<T> time(Supplier<Result<T>> operation) {
+        var startedAt = System.nanoTime();
+        try {
+            var result = operation.get();
+            record(startedAt, result.failed());
+            return result;
+        } catch (RuntimeException e) {
+            record(startedAt, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the asynchronous operation and records its latency once the returned stage completes, counting a failed
+     * result or an exceptional completion as failure.
+     *
+     * @param operation the operation
+     * @return the stage returned by the operation
+     */
+    public <T> CompletionStage<Result<T>> timeAsync(Supplier<? extends CompletionStage<Result<T>>> operation) {
+        var startedAt = System.nanoTime();
+        CompletionStage<Result<T>> stage;
+        try {
+            stage = operation.get();
+        } catch (RuntimeException e) {
+            record(startedAt, true);
+            throw e;
+        }
+        if (stage instanceof CompletableFuture<Result<T>> future && future.isDone() && !future.isCompletedExceptionally()) {
+            record(startedAt, future.join().failed());
+            return stage;
+        }
+        return stage.whenComplete((result, throwable) -> record(startedAt, throwable != null || result.failed()));
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    private void record(long startedAt, boolean failed) {
+        latency.record(System.nanoTime() - startedAt);
+        if (failed) {
+            failures.increment();
+        }
+    }
+}
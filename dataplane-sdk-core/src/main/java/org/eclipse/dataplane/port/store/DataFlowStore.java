@@ -10,6 +10,8 @@
  *  Contributors:
  *       Think-it GmbH - initial API and implementation
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - Javadoc
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - count by state
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - non-terminal query
  *
  */
 
@@ -17,6 +19,10 @@ package org.eclipse.dataplane.port.store;
 
 import org.eclipse.dataplane.domain.Result;
 import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Store for {@link DataFlow}s.
@@ -40,4 +46,46 @@ public interface DataFlowStore {
      *         exception providing error details
      */
     Result<DataFlow> findById(String flowId);
+
+    /**
+     * Retrieves the DataFlows that have been persisted after the given watermark, ordered by their update
+     * marker (see {@link DataFlow#getUpdatedAt()}). A DataFlow that changed multiple times is only returned
+     * once, with its latest state. Consumers start with a watermark of 0 and pass the returned watermark on
+     * subsequent calls, so that each call only processes the changes since the previous one.
+     *
+     * @param watermark the watermark returned by the previous call, 0 to start from the beginning
+     * @param limit the maximum number of DataFlows to return
+     * @return a successful {@link Result} holding the changed DataFlows and the next watermark, or a failed
+     *         result with an exception providing error details
+     */
+    default Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        return Result.failure(new UnsupportedOperationException("%s does not support a change feed".formatted(getClass().getSimpleName())));
+    }
+
+    /**
+     * Retrieves the DataFlows that are neither {@link DataFlow.State#COMPLETED completed} nor
+     * {@link DataFlow.State#TERMINATED terminated}, ordered by id, e.g. for recovering them after a restart.
+     * Consumers start with an empty id and pass the id of the last DataFlow returned on subsequent calls, until
+     * fewer DataFlows than the limit are returned.
+     *
+     * @param afterId the id of the last DataFlow returned by the previous call, an empty string to start from the
+     *                beginning
+     * @param limit the maximum number of DataFlows to return
+     * @return a successful {@link Result} holding the DataFlows with an id greater than the given one, or a failed
+     *         result with an exception providing error details
+     */
+    default Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        return Result.failure(new UnsupportedOperationException("%s does not support finding non-terminal DataFlows".formatted(getClass().getSimpleName())));
+    }
+
+    /**
+     * Counts the stored DataFlows per state, e.g. for exposing them as metrics. States without DataFlows may be
+     * omitted.
+     *
+     * @return a successful {@link Result} holding the number of DataFlows per state, or a failed result with an
+     *         exception providing error details
+     */
+    default Result<Map<DataFlow.State, Long>> countByState() {
+        return Result.failure(new UnsupportedOperationException("%s does not support counting by state".formatted(getClass().getSimpleName())));
+    }
 }
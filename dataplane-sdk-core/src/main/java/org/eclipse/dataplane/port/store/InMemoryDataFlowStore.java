@@ -9,6 +9,8 @@
  *
  *  Contributors:
  *       Think-it GmbH - initial API and implementation
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - count by state
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - non-terminal query
  *
  */
 
@@ -16,28 +18,57 @@ package org.eclipse.dataplane.port.store;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.eclipse.dataplane.domain.Result;
 import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
 import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InMemoryDataFlowStore implements DataFlowStore {
 
-    private final Map<String, String> store = new HashMap<>();
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, String> changes = new TreeMap<>();
+    private final Map<String, Long> updateMarkers = new HashMap<>();
+    private final NavigableMap<String, DataFlow.State> states = new TreeMap<>();
+    private final Map<DataFlow.State, Long> stateCounts = new EnumMap<>(DataFlow.State.class);
     private final ObjectMapper objectMapper;
+    private long lastUpdateMarker;
 
     public InMemoryDataFlowStore(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
 
     @Override
-    public Result<Void> save(DataFlow dataFlow) {
+    public synchronized Result<Void> save(DataFlow dataFlow) {
         try {
-            store.put(dataFlow.getId(), objectMapper.writeValueAsString(dataFlow));
+            var updateMarker = lastUpdateMarker + 1;
+            ObjectNode json = objectMapper.valueToTree(dataFlow);
+            json.put("updatedAt", updateMarker);
+            store.put(dataFlow.getId(), objectMapper.writeValueAsString(json));
+
+            lastUpdateMarker = updateMarker;
+            var previousMarker = updateMarkers.put(dataFlow.getId(), updateMarker);
+            if (previousMarker != null) {
+                changes.remove(previousMarker);
+            }
+            changes.put(updateMarker, dataFlow.getId());
+
+            var previousState = states.put(dataFlow.getId(), dataFlow.getState());
+            if (previousState != null) {
+                stateCounts.merge(previousState, -1L, Long::sum);
+            }
+            stateCounts.merge(dataFlow.getState(), 1L, Long::sum);
             return Result.success();
-        } catch (JsonProcessingException e) {
+        } catch (JsonProcessingException | IllegalArgumentException e) {
             return Result.failure(e);
         }
     }
@@ -49,8 +80,54 @@ public class InMemoryDataFlowStore implements DataFlowStore {
             return Result.failure(new ResourceNotFoundException("DataFlow %s not found".formatted(flowId)));
         }
 
+        return deserialize(dataFlow);
+    }
+
+    @Override
+    public synchronized Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        var dataFlows = new ArrayList<DataFlow>();
+        var nextWatermark = watermark;
+        for (var change : changes.tailMap(watermark, false).entrySet()) {
+            if (dataFlows.size() >= limit) {
+                break;
+            }
+            var deserialized = deserialize(store.get(change.getValue()));
+            if (deserialized.failed()) {
+                return Result.failure(deserialized.getException());
+            }
+            dataFlows.add(deserialized.getContent());
+            nextWatermark = change.getKey();
+        }
+        return Result.success(new DataFlowChanges(dataFlows, nextWatermark));
+    }
+
+    @Override
+    public synchronized Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        var dataFlows = new ArrayList<DataFlow>();
+        for (var entry : states.tailMap(afterId, false).entrySet()) {
+            if (dataFlows.size() >= limit) {
+                break;
+            }
+            if (entry.getValue() == DataFlow.State.COMPLETED || entry.getValue() == DataFlow.State.TERMINATED) {
+                continue;
+            }
+            var deserialized = deserialize(store.get(entry.getKey()));
+            if (deserialized.failed()) {
+                return Result.failure(deserialized.getException());
+            }
+            dataFlows.add(deserialized.getContent());
+        }
+        return Result.success(dataFlows);
+    }
+
+    @Override
+    public synchronized Result<Map<DataFlow.State, Long>> countByState() {
+        return Result.success(new EnumMap<>(stateCounts));
+    }
+
+    private Result<DataFlow> deserialize(String json) {
         try {
-            var deserialized = objectMapper.readValue(dataFlow, DataFlow.class);
+            var deserialized = objectMapper.readValue(json, DataFlow.class);
             return Result.success(deserialized);
         } catch (JsonProcessingException e) {
             return Result.failure(e);
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.store;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStatusMessage;
+import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ProcessedMessageStore} remembering responses for a time window. Once the maximum number of entries is
+ * reached, the oldest ones are dropped.
+ */
+public class InMemoryProcessedMessageStore implements ProcessedMessageStore {
+
+    private final long windowNanos;
+    private final int maxEntries;
+    private final Map<Key, Entry> entries;
+
+    public InMemoryProcessedMessageStore(Duration window, int maxEntries) {
+        this.windowNanos = window.toNanos();
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > InMemoryProcessedMessageStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Result<DataFlowStatusMessage> find(String dataFlowId, String messageId) {
+        var key = new Key(dataFlowId, messageId);
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Result.failure(new ResourceNotFoundException("Message %s for DataFlow %s not processed".formatted(messageId, dataFlowId)));
+        }
+        if (System.nanoTime() - entry.savedAt() > windowNanos) {
+            entries.remove(key);
+            return Result.failure(new ResourceNotFoundException("Message %s for DataFlow %s not processed".formatted(messageId, dataFlowId)));
+        }
+        return Result.success(entry.response());
+    }
+
+    @Override
+    public synchronized Result<Void> save(String dataFlowId, String messageId, DataFlowStatusMessage response) {
+        entries.put(new Key(dataFlowId, messageId), new Entry(response, System.nanoTime()));
+        return Result.success();
+    }
+
+    private record Key(String dataFlowId, String messageId) {
+    }
+
+    private record Entry(DataFlowStatusMessage response, long savedAt) {
+    }
+}
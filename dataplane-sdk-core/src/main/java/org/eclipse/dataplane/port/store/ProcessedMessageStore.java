@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.store;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStatusMessage;
+
+/**
+ * Store for the responses to already processed signaling messages, used to answer retried messages with the same
+ * response instead of processing them again.
+ */
+public interface ProcessedMessageStore {
+
+    /**
+     * Retrieves the response to a processed message.
+     *
+     * @param dataFlowId the id of the DataFlow the message refers to
+     * @param messageId the id of the message
+     * @return a successful {@link Result} holding the response, or a failed result if the message was not processed
+     *         or is no longer remembered
+     */
+    Result<DataFlowStatusMessage> find(String dataFlowId, String messageId);
+
+    /**
+     * Persists the response to a processed message.
+     *
+     * @param dataFlowId the id of the DataFlow the message refers to
+     * @param messageId the id of the message
+     * @param response the response
+     * @return a successful or failed {@link Result}, indicating whether the response was persisted
+     */
+    Result<Void> save(String dataFlowId, String messageId, DataFlowStatusMessage response);
+}
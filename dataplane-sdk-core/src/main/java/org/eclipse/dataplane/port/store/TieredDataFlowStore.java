@@ -0,0 +1,410 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
+import org.eclipse.dataplane.port.exception.PersistenceException;
+import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * In-memory {@link DataFlowStore} that keeps only active DataFlows in memory. DataFlows that are
+ * {@link DataFlow.State#SUSPENDED suspended}, {@link DataFlow.State#COMPLETED completed} or
+ * {@link DataFlow.State#TERMINATED terminated} are spilled to files in a local directory and read back
+ * on {@link #findById(String)}, e.g. when a suspended DataFlow is resumed. Once such a DataFlow is saved
+ * in an active state again, it moves back to memory.
+ *
+ * <p>Spilled DataFlows leave nothing behind in memory: files are named after the SHA-256 hash of the
+ * DataFlow id and kept in one subdirectory per state, so that the state of a spilled DataFlow is known without
+ * reading its file and scans for suspended DataFlows don't touch completed or terminated ones. Their part of the
+ * change feed is an append-only log of fixed-size (update marker, hash) records, which is searched by update
+ * marker and read sequentially. Records of DataFlows that were saved again afterwards are skipped when reading,
+ * and the log is compacted once such superseded records make up most of it. Only the per-state counters are
+ * kept for all DataFlows.
+ *
+ * <p>The file tier only serves to keep the resident set small, it does not make the store durable:
+ * like {@link InMemoryDataFlowStore}, the content of the store is lost on restart, and files left over
+ * from a previous run are deleted when the store is created.
+ */
+public class TieredDataFlowStore implements DataFlowStore {
+
+    private static final Set<DataFlow.State> COLD_STATES = EnumSet.of(DataFlow.State.SUSPENDED, DataFlow.State.COMPLETED, DataFlow.State.TERMINATED);
+    private static final String FILE_SUFFIX = ".dataflow.json";
+    private static final String CHANGE_LOG = "changes.log";
+    private static final int HASH_SIZE = 32;
+    private static final int RECORD_SIZE = Long.BYTES + HASH_SIZE;
+    private static final int MIN_SUPERSEDED_RECORDS_TO_COMPACT = 1024;
+
+    private final Map<String, HotDataFlow> hot = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, String> hotChanges = new TreeMap<>();
+    private final Map<DataFlow.State, Long> stateCounts = new EnumMap<>(DataFlow.State.class);
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Path changeLog;
+    private long lastUpdateMarker;
+    private long changeLogRecords;
+    private long supersededRecords;
+
+    public TieredDataFlowStore(ObjectMapper objectMapper, Path directory) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.changeLog = directory.resolve(CHANGE_LOG);
+        try {
+            Files.createDirectories(directory);
+            deleteDataFlowFiles(directory);
+            for (var state : COLD_STATES) {
+                Files.createDirectories(directoryFor(state));
+                deleteDataFlowFiles(directoryFor(state));
+            }
+            Files.write(changeLog, new byte[0]);
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to initialize data flow directory %s.".formatted(directory), e);
+        }
+    }
+
+    @Override
+    public synchronized Result<Void> save(DataFlow dataFlow) {
+        try {
+            var updateMarker = lastUpdateMarker + 1;
+            ObjectNode json = objectMapper.valueToTree(dataFlow);
+            json.put("updatedAt", updateMarker);
+            var serialized = objectMapper.writeValueAsString(json);
+
+            var hash = hash(dataFlow.getId());
+            var previous = hot.get(dataFlow.getId());
+            var previousState = previous != null ? previous.state() : coldState(hash);
+            var wasCold = previous == null && previousState != null;
+
+            if (COLD_STATES.contains(dataFlow.getState())) {
+                var file = fileFor(hash, dataFlow.getState());
+                var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+                Files.writeString(temporaryFile, serialized, StandardCharsets.UTF_8);
+                Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+                Files.write(changeLog, ByteBuffer.allocate(RECORD_SIZE).putLong(updateMarker).put(hash).array(), CREATE, APPEND);
+                changeLogRecords++;
+                hot.remove(dataFlow.getId());
+            } else {
+                hot.put(dataFlow.getId(), new HotDataFlow(serialized, dataFlow.getState(), updateMarker));
+                hotChanges.put(updateMarker, dataFlow.getId());
+            }
+            if (wasCold && previousState != dataFlow.getState()) {
+                Files.deleteIfExists(fileFor(hash, previousState));
+            }
+            if (previous != null) {
+                hotChanges.remove(previous.updateMarker());
+            }
+            lastUpdateMarker = updateMarker;
+
+            if (wasCold && ++supersededRecords >= MIN_SUPERSEDED_RECORDS_TO_COMPACT && supersededRecords * 2 > changeLogRecords) {
+                compactChangeLog();
+            }
+
+            if (previousState != null) {
+                stateCounts.merge(previousState, -1L, Long::sum);
+            }
+            stateCounts.merge(dataFlow.getState(), 1L, Long::sum);
+            return Result.success();
+        } catch (JsonProcessingException | IllegalArgumentException | PersistenceException e) {
+            return Result.failure(e);
+        } catch (IOException e) {
+            return Result.failure(new PersistenceException("Failed to write DataFlow with id %s.".formatted(dataFlow.getId()), e));
+        }
+    }
+
+    @Override
+    public Result<DataFlow> findById(String flowId) {
+        var hotDataFlow = hot.get(flowId);
+        if (hotDataFlow != null) {
+            return deserialize(hotDataFlow.json());
+        }
+
+        try {
+            var dataFlow = readCold(hash(flowId));
+            if (dataFlow.succeeded() && dataFlow.getContent() == null) {
+                return Result.failure(new ResourceNotFoundException("DataFlow %s not found".formatted(flowId)));
+            }
+            return dataFlow;
+        } catch (IOException e) {
+            return Result.failure(new PersistenceException("Failed to read DataFlow with id %s.".formatted(flowId), e));
+        }
+    }
+
+    @Override
+    public synchronized Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        var dataFlows = new ArrayList<DataFlow>();
+        var nextWatermark = watermark;
+        var hotIterator = hotChanges.tailMap(watermark, false).entrySet().iterator();
+        var hotChange = hotIterator.hasNext() ? hotIterator.next() : null;
+        try (var channel = FileChannel.open(changeLog, READ)) {
+            var recordCount = channel.size() / RECORD_SIZE;
+            var position = firstRecordAfter(channel, recordCount, watermark);
+            var record = ByteBuffer.allocate(RECORD_SIZE);
+            var coldMarker = position < recordCount ? readRecord(channel, position, record) : Long.MAX_VALUE;
+
+            while (dataFlows.size() < limit && (hotChange != null || coldMarker != Long.MAX_VALUE)) {
+                if (hotChange != null && hotChange.getKey() < coldMarker) {
+                    var deserialized = deserialize(hot.get(hotChange.getValue()).json());
+                    if (deserialized.failed()) {
+                        return Result.failure(deserialized.getException());
+                    }
+                    dataFlows.add(deserialized.getContent());
+                    nextWatermark = hotChange.getKey();
+                    hotChange = hotIterator.hasNext() ? hotIterator.next() : null;
+                } else {
+                    var hash = new byte[HASH_SIZE];
+                    record.get(Long.BYTES, hash);
+                    var deserialized = readCold(hash);
+                    if (deserialized.failed()) {
+                        return Result.failure(deserialized.getException());
+                    }
+                    var dataFlow = deserialized.getContent();
+                    if (dataFlow != null && dataFlow.getUpdatedAt() == coldMarker) {
+                        dataFlows.add(dataFlow);
+                    }
+                    nextWatermark = coldMarker;
+                    position++;
+                    coldMarker = position < recordCount ? readRecord(channel, position, record) : Long.MAX_VALUE;
+                }
+            }
+        } catch (IOException e) {
+            return Result.failure(new PersistenceException("Failed to read the change log in %s.".formatted(directory), e));
+        }
+        return Result.success(new DataFlowChanges(dataFlows, nextWatermark));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Suspended DataFlows are found by reading the file tier, so every call lists and reads the files of the
+     * suspended DataFlows, which is meant for occasional scans like a recovery.
+     */
+    @Override
+    public synchronized Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        var page = new TreeMap<String, String>();
+        for (var entry : hot.entrySet()) {
+            if (entry.getKey().compareTo(afterId) > 0) {
+                addBounded(page, entry.getKey(), entry.getValue().json(), limit);
+            }
+        }
+        try (var files = Files.list(directoryFor(DataFlow.State.SUSPENDED))) {
+            for (var file : files.filter(it -> it.getFileName().toString().endsWith(FILE_SUFFIX)).toList()) {
+                String json;
+                try {
+                    json = Files.readString(file, StandardCharsets.UTF_8);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                var id = objectMapper.readTree(json).path("id").asText();
+                if (id.compareTo(afterId) > 0) {
+                    addBounded(page, id, json, limit);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            return Result.failure(e);
+        } catch (IOException e) {
+            return Result.failure(new PersistenceException("Failed to read the data flows in %s.".formatted(directory), e));
+        }
+
+        var dataFlows = new ArrayList<DataFlow>();
+        for (var json : page.values()) {
+            var deserialized = deserialize(json);
+            if (deserialized.failed()) {
+                return Result.failure(deserialized.getException());
+            }
+            dataFlows.add(deserialized.getContent());
+        }
+        return Result.success(dataFlows);
+    }
+
+    @Override
+    public synchronized Result<Map<DataFlow.State, Long>> countByState() {
+        return Result.success(new EnumMap<>(stateCounts));
+    }
+
+    /**
+     * Returns the number of DataFlows currently held in memory.
+     *
+     * @return the number of in-memory DataFlows
+     */
+    public int residentCount() {
+        return hot.size();
+    }
+
+    private DataFlow.State coldState(byte[] hash) {
+        for (var state : COLD_STATES) {
+            if (Files.exists(fileFor(hash, state))) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a spilled DataFlow, or null if there is none. The state directories are tried in the order of
+     * the transitions between them, and a DataFlow moving on is written to its new directory before it's removed
+     * from the old one, so that a concurrent save doesn't make it disappear.
+     */
+    private Result<DataFlow> readCold(byte[] hash) throws IOException {
+        for (var state : COLD_STATES) {
+            try {
+                return deserialize(Files.readString(fileFor(hash, state), StandardCharsets.UTF_8));
+            } catch (NoSuchFileException e) {
+                // not in this state
+            }
+        }
+        return Result.success(null);
+    }
+
+    /**
+     * Rewrites the change log with only the latest record of each DataFlow that is still spilled, keeping their
+     * order. Needs a map over the distinct DataFlows in the log while running.
+     */
+    private void compactChangeLog() throws IOException {
+        var latestPositions = new HashMap<ByteBuffer, Long>();
+        try (var records = new DataInputStream(new BufferedInputStream(Files.newInputStream(changeLog)))) {
+            for (var position = 0L; position < changeLogRecords; position++) {
+                records.readLong();
+                var hash = new byte[HASH_SIZE];
+                records.readFully(hash);
+                latestPositions.put(ByteBuffer.wrap(hash), position);
+            }
+        } catch (EOFException e) {
+            throw new IOException("Unexpected end of change log", e);
+        }
+
+        var compacted = changeLog.resolveSibling(CHANGE_LOG + ".tmp");
+        var kept = 0L;
+        try (var records = new DataInputStream(new BufferedInputStream(Files.newInputStream(changeLog)));
+             var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compacted)))) {
+            for (var position = 0L; position < changeLogRecords; position++) {
+                var updateMarker = records.readLong();
+                var hash = new byte[HASH_SIZE];
+                records.readFully(hash);
+                if (latestPositions.get(ByteBuffer.wrap(hash)) == position && coldState(hash) != null) {
+                    output.writeLong(updateMarker);
+                    output.write(hash);
+                    kept++;
+                }
+            }
+        }
+        Files.move(compacted, changeLog, ATOMIC_MOVE, REPLACE_EXISTING);
+        changeLogRecords = kept;
+        supersededRecords = 0;
+    }
+
+    private void deleteDataFlowFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            for (var file : files.filter(it -> it.getFileName().toString().endsWith(FILE_SUFFIX)).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private void addBounded(TreeMap<String, String> page, String id, String json, int limit) {
+        page.put(id, json);
+        if (page.size() > limit) {
+            page.pollLastEntry();
+        }
+    }
+
+    private long firstRecordAfter(FileChannel channel, long recordCount, long watermark) throws IOException {
+        var record = ByteBuffer.allocate(RECORD_SIZE);
+        var low = 0L;
+        var high = recordCount;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (readRecord(channel, middle, record) <= watermark) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long readRecord(FileChannel channel, long position, ByteBuffer record) throws IOException {
+        record.clear();
+        while (record.hasRemaining()) {
+            if (channel.read(record, position * RECORD_SIZE + record.position()) < 0) {
+                throw new IOException("Unexpected end of change log");
+            }
+        }
+        return record.getLong(0);
+    }
+
+    private Path directoryFor(DataFlow.State state) {
+        return directory.resolve(state.name().toLowerCase(Locale.ROOT));
+    }
+
+    private Path fileFor(byte[] hash, DataFlow.State state) {
+        return directoryFor(state).resolve(HexFormat.of().formatHex(hash) + FILE_SUFFIX);
+    }
+
+    private byte[] hash(String flowId) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(flowId.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Result<DataFlow> deserialize(String json) {
+        try {
+            return Result.success(objectMapper.readValue(json, DataFlow.class));
+        } catch (JsonProcessingException e) {
+            return Result.failure(e);
+        }
+    }
+
+    private record HotDataFlow(String json, DataFlow.State state, long updateMarker) {
+    }
+}
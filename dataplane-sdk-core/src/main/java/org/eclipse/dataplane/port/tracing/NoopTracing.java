@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.tracing;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * {@link Tracing} that does not record anything, returning the same instance as span and scope.
+ */
+final class NoopTracing implements Tracing, Span, Scope {
+
+    static final NoopTracing INSTANCE = new NoopTracing();
+
+    private NoopTracing() {
+
+    }
+
+    @Override
+    public Scope extract(Function<String, String> headers) {
+        return this;
+    }
+
+    @Override
+    public Span startSpan(String name, SpanKind kind) {
+        return this;
+    }
+
+    @Override
+    public Span attribute(String key, String value) {
+        return this;
+    }
+
+    @Override
+    public Scope makeCurrent() {
+        return this;
+    }
+
+    @Override
+    public void inject(BiConsumer<String, String> headers) {
+
+    }
+
+    @Override
+    public void end(Exception error) {
+
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
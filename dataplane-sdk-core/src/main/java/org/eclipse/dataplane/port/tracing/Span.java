@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.tracing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A traced operation, started by {@link Tracing#startSpan(String, SpanKind)}.
+ */
+public interface Span {
+
+    /**
+     * Sets an attribute, which may be skipped if the span is not sampled.
+     *
+     * @param key the attribute key
+     * @param value the attribute value
+     * @return this span
+     */
+    Span attribute(String key, String value);
+
+    /**
+     * Makes the span current for the calling thread until the returned scope is closed, so that spans started
+     * meanwhile become its children.
+     *
+     * @return the scope
+     */
+    Scope makeCurrent();
+
+    /**
+     * Adds the headers propagating this span to an outgoing request, e.g. {@link Tracing#TRACEPARENT}.
+     *
+     * @param headers adds a header by name and value
+     */
+    void inject(BiConsumer<String, String> headers);
+
+    /**
+     * Ends the span.
+     *
+     * @param error the error the operation failed with, or null if it succeeded
+     */
+    void end(Exception error);
+}
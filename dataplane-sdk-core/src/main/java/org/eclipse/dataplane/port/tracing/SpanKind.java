@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.tracing;
+
+/**
+ * Role of a span.
+ */
+public enum SpanKind {
+    /**
+     * Operation within the dataplane, e.g. a handler or store call.
+     */
+    INTERNAL,
+    /**
+     * Handling of a request received from a control plane.
+     */
+    SERVER,
+    /**
+     * Request sent to a control plane, e.g. a callback.
+     */
+    CLIENT
+}
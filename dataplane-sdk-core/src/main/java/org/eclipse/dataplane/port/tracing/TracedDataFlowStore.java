@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.tracing;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
+import org.eclipse.dataplane.port.store.DataFlowStore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataFlowStore} tracing each call to the decorated store as a span.
+ */
+public class TracedDataFlowStore implements DataFlowStore {
+
+    private final DataFlowStore delegate;
+    private final Tracing tracing;
+
+    public TracedDataFlowStore(DataFlowStore delegate, Tracing tracing) {
+        this.delegate = delegate;
+        this.tracing = tracing;
+    }
+
+    @Override
+    public Result<Void> save(DataFlow dataFlow) {
+        return trace("save", dataFlow.getId(), () -> delegate.save(dataFlow));
+    }
+
+    @Override
+    public Result<DataFlow> findById(String flowId) {
+        return trace("findById", flowId, () -> delegate.findById(flowId));
+    }
+
+    @Override
+    public Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        return trace("findChangedSince", null, () -> delegate.findChangedSince(watermark, limit));
+    }
+
+    @Override
+    public Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        return trace("findNonTerminal", null, () -> delegate.findNonTerminal(afterId, limit));
+    }
+
+    @Override
+    public Result<Map<DataFlow.State, Long>> countByState() {
+        return delegate.countByState();
+    }
+
+    private <T> Result<T> trace(String call, String dataFlowId, Supplier<Result<T>> operation) {
+        var span = tracing.startSpan("dataflow store " + call, SpanKind.INTERNAL);
+        if (dataFlowId != null) {
+            span.attribute("dataflow.id", dataFlowId);
+        }
+        var scope = span.makeCurrent();
+        try {
+            var result = operation.get();
+            span.end(result.failed() ? result.getException() : null);
+            return result;
+        } catch (RuntimeException e) {
+            span.end(e);
+            throw e;
+        } finally {
+            scope.close();
+        }
+    }
+}
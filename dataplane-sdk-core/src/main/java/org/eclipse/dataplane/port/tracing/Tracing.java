@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.tracing;
+
+import java.util.function.Function;
+
+/**
+ * SPI for tracing the dataplane with W3C trace context propagation. The current span is tracked per thread: spans are
+ * started as children of the span current on the calling thread, or of the remote parent extracted from an incoming
+ * request. By default, the {@link #noop()} implementation is used, which does not record anything.
+ */
+public interface Tracing {
+
+    String TRACEPARENT = "traceparent";
+    String TRACESTATE = "tracestate";
+
+    /**
+     * Returns the tracing that does not record anything, with negligible overhead.
+     *
+     * @return the no-op tracing
+     */
+    static Tracing noop() {
+        return NoopTracing.INSTANCE;
+    }
+
+    /**
+     * Makes the remote parent propagated by an incoming request, i.e. its {@link #TRACEPARENT} and {@link #TRACESTATE}
+     * headers, current for the calling thread until the returned scope is closed.
+     *
+     * @param headers returns the value of a request header by name, or null if absent
+     * @return the scope
+     */
+    Scope extract(Function<String, String> headers);
+
+    /**
+     * Starts a span as child of the span current on the calling thread. The span must be ended with
+     * {@link Span#end(Exception)}.
+     *
+     * @param name the span name
+     * @param kind the span kind
+     * @return the started span
+     */
+    Span startSpan(String name, SpanKind kind);
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.dataflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.COMPLETED;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.PREPARED;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.PREPARING;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.STARTED;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.SUSPENDED;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.TERMINATED;
+
+class DataFlowStateTest {
+
+    @ParameterizedTest
+    @EnumSource(value = DataFlow.State.class, names = { "COMPLETED", "TERMINATED" })
+    void canTransitionTo_finalState_shouldRejectAnyTransition(DataFlow.State state) {
+        for (var target : DataFlow.State.values()) {
+            assertThat(state.canTransitionTo(target)).as("%s -> %s", state, target).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DataFlow.State.class, names = { "COMPLETED", "TERMINATED" }, mode = EnumSource.Mode.EXCLUDE)
+    void canTransitionTo_activeState_shouldAllowTermination(DataFlow.State state) {
+        assertThat(state.canTransitionTo(TERMINATED)).isTrue();
+    }
+
+    @Test
+    void canTransitionTo_suspended_shouldAllowResumeButNotCompletion() {
+        assertThat(SUSPENDED.canTransitionTo(STARTED)).isTrue();
+        assertThat(SUSPENDED.canTransitionTo(COMPLETED)).isFalse();
+    }
+
+    @Test
+    void canTransitionTo_preparing_shouldOnlyAllowPreparedOrTerminated() {
+        assertThat(PREPARING.canTransitionTo(PREPARED)).isTrue();
+        assertThat(PREPARING.canTransitionTo(STARTED)).isFalse();
+        assertThat(PREPARING.canTransitionTo(SUSPENDED)).isFalse();
+    }
+}
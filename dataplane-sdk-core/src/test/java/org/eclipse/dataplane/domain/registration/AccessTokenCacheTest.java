@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.registration;
+
+import org.eclipse.dataplane.domain.registration.AccessTokenCache.AccessToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AccessTokenCache cache = new AccessTokenCache(clock);
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void get_shouldShareInFlightFetch() {
+        var pending = new CompletableFuture<AccessToken>();
+
+        var first = cache.get("endpoint", "client", () -> fetch(pending));
+        var second = cache.get("endpoint", "client", () -> fetch(pending));
+        pending.complete(new AccessToken("token", Duration.ofMinutes(5)));
+
+        assertThat(first).isCompletedWithValue("token");
+        assertThat(second).isCompletedWithValue("token");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void get_shouldReturnCachedToken_whenNotExpired() {
+        cache.get("endpoint", "client", () -> fetch(token("token", Duration.ofMinutes(5))));
+
+        var result = cache.get("endpoint", "client", () -> fetch(token("other", Duration.ofMinutes(5))));
+
+        assertThat(result).isCompletedWithValue("token");
+        assertThat(fetches).hasValue(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenTokenIsAboutToExpire() {
+        cache.get("endpoint", "client", () -> fetch(token("token", Duration.ofMinutes(4))));
+        clock.advance(Duration.ofMinutes(3));
+
+        var result = cache.get("endpoint", "client", () -> fetch(token("refreshed", Duration.ofMinutes(4))));
+
+        assertThat(result).isCompletedWithValue("token");
+        assertThat(cache.get("endpoint", "client", () -> fetch(token("other", Duration.ofMinutes(4))))).isCompletedWithValue("refreshed");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void get_shouldFetchNewToken_whenExpired() {
+        cache.get("endpoint", "client", () -> fetch(token("token", Duration.ofMinutes(1))));
+        clock.advance(Duration.ofMinutes(1));
+
+        var result = cache.get("endpoint", "client", () -> fetch(token("new", Duration.ofMinutes(1))));
+
+        assertThat(result).isCompletedWithValue("new");
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldNotCacheToken_whenExpirationIsUnknown() {
+        cache.get("endpoint", "client", () -> fetch(token("token", null)));
+
+        var result = cache.get("endpoint", "client", () -> fetch(token("new", null)));
+
+        assertThat(result).isCompletedWithValue("new");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void get_shouldCacheTokensPerClient() {
+        cache.get("endpoint", "client", () -> fetch(token("token", Duration.ofMinutes(5))));
+
+        var result = cache.get("endpoint", "other-client", () -> fetch(token("other", Duration.ofMinutes(5))));
+
+        assertThat(result).isCompletedWithValue("other");
+    }
+
+    private CompletableFuture<AccessToken> fetch(CompletableFuture<AccessToken> token) {
+        fetches.incrementAndGet();
+        return token;
+    }
+
+    private CompletableFuture<AccessToken> token(String value, Duration expiresIn) {
+        return CompletableFuture.completedFuture(new AccessToken(value, expiresIn));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.domain.registration;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataplane.port.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtVerifierTest {
+
+    private RSAKey signingKey;
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("key").generate();
+        verifier = JwtVerifier.newInstance()
+                .jwkSource(new ImmutableJWKSet<>(new JWKSet(signingKey.toPublicJWK())))
+                .build();
+    }
+
+    @Test
+    void verify_shouldReturnSubject_whenTokenIsValid() throws JOSEException {
+        var token = token(signingKey, Instant.now().plus(Duration.ofMinutes(5)));
+
+        var result = verifier.verify(token);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).isEqualTo("control-plane");
+    }
+
+    @Test
+    void verify_shouldUseCachedResult_whenTokenWasVerifiedBefore() throws JOSEException {
+        var token = token(signingKey, Instant.now().plus(Duration.ofMinutes(5)));
+        verifier.verify(token);
+
+        var result = verifier.verify(token);
+
+        assertThat(result.getContent()).isEqualTo("control-plane");
+        assertThat(verifier.hits()).isEqualTo(1);
+        assertThat(verifier.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_shouldEvictLeastRecentlyUsedToken_whenCacheIsFull() throws JOSEException {
+        var verifier = JwtVerifier.newInstance()
+                .jwkSource(new ImmutableJWKSet<>(new JWKSet(signingKey.toPublicJWK())))
+                .maxCachedTokens(1)
+                .build();
+        var first = token(signingKey, Instant.now().plus(Duration.ofMinutes(5)));
+        var second = token(signingKey, Instant.now().plus(Duration.ofMinutes(10)));
+        verifier.verify(first);
+        verifier.verify(second);
+
+        verifier.verify(second);
+        verifier.verify(first);
+
+        assertThat(verifier.hits()).isEqualTo(1);
+        assertThat(verifier.misses()).isEqualTo(3);
+    }
+
+    @Test
+    void verify_shouldFail_whenSignedWithUnknownKey() throws JOSEException {
+        var otherKey = new RSAKeyGenerator(2048).keyID("key").generate();
+
+        var result = verifier.verify(token(otherKey, Instant.now().plus(Duration.ofMinutes(5))));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getException()).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void verify_shouldFail_whenTokenIsExpired() throws JOSEException {
+        var result = verifier.verify(token(signingKey, Instant.now().minus(Duration.ofMinutes(5))));
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void verify_shouldFail_whenTokenHasNoExpiration() throws JOSEException {
+        var result = verifier.verify(sign(signingKey, new JWTClaimsSet.Builder().subject("control-plane").build()));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getException()).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void verify_shouldFail_whenTokenHasNoSubject() throws JOSEException {
+        var claims = new JWTClaimsSet.Builder().expirationTime(Date.from(Instant.now().plus(Duration.ofMinutes(5)))).build();
+
+        var result = verifier.verify(sign(signingKey, claims));
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void verify_shouldCheckIssuerAndAudience_whenConfigured() throws JOSEException {
+        var verifier = JwtVerifier.newInstance()
+                .jwkSource(new ImmutableJWKSet<>(new JWKSet(signingKey.toPublicJWK())))
+                .issuer("https://idp")
+                .audience("dataplane")
+                .build();
+        var expiration = Date.from(Instant.now().plus(Duration.ofMinutes(5)));
+        var valid = new JWTClaimsSet.Builder().subject("control-plane").expirationTime(expiration).issuer("https://idp").audience("dataplane").build();
+        var otherIssuer = new JWTClaimsSet.Builder().subject("control-plane").expirationTime(expiration).issuer("https://other").audience("dataplane").build();
+        var otherAudience = new JWTClaimsSet.Builder().subject("control-plane").expirationTime(expiration).issuer("https://idp").audience("other").build();
+
+        assertThat(verifier.verify(sign(signingKey, valid)).getContent()).isEqualTo("control-plane");
+        assertThat(verifier.verify(sign(signingKey, otherIssuer)).failed()).isTrue();
+        assertThat(verifier.verify(sign(signingKey, otherAudience)).failed()).isTrue();
+        assertThat(verifier.verify(token(signingKey, Instant.now().plus(Duration.ofMinutes(5)))).failed()).isTrue();
+    }
+
+    private String token(RSAKey key, Instant expiration) throws JOSEException {
+        var claims = new JWTClaimsSet.Builder()
+                .subject("control-plane")
+                .expirationTime(Date.from(expiration))
+                .build();
+        return sign(key, claims);
+    }
+
+    private String sign(RSAKey key, JWTClaimsSet claims) throws JOSEException {
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
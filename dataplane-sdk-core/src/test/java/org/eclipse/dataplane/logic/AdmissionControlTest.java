@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.port.exception.TooManyRequests;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlTest {
+
+    @Test
+    void acquire_shouldAdmitAll_whenNotLimited() {
+        var admissionControl = AdmissionControl.newInstance().build();
+
+        for (var i = 0; i < 1000; i++) {
+            assertThat(admissionControl.acquire("controlplane").succeeded()).isTrue();
+        }
+    }
+
+    @Test
+    void acquire_shouldReject_whenBurstIsExhausted() {
+        var admissionControl = AdmissionControl.newInstance().requestsPerSecond(1).burst(2).build();
+        admissionControl.acquire("controlplane").getContent().release();
+        admissionControl.acquire("controlplane").getContent().release();
+
+        var result = admissionControl.acquire("controlplane");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getException()).isInstanceOfSatisfying(TooManyRequests.class, tooManyRequests ->
+                assertThat(tooManyRequests.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(1)));
+        assertThat(admissionControl.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldLimitEachControlPlaneSeparately() {
+        var admissionControl = AdmissionControl.newInstance().requestsPerSecond(1).burst(1).build();
+        admissionControl.acquire("controlplane");
+
+        var result = admissionControl.acquire("other-controlplane");
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void acquire_shouldReject_whenTooManyConcurrentRequests() {
+        var admissionControl = AdmissionControl.newInstance().maxConcurrentRequests(1).build();
+        var permit = admissionControl.acquire("controlplane").getContent();
+
+        assertThat(admissionControl.acquire("controlplane").failed()).isTrue();
+        permit.release();
+        permit.release();
+        assertThat(admissionControl.acquire("controlplane").succeeded()).isTrue();
+        assertThat(admissionControl.acquire("controlplane").failed()).isTrue();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStateChanged;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataFlowEventBusTest {
+
+    private final DataFlowEventBus eventBus = DataFlowEventBus.newInstance()
+            .capacity(4)
+            .batchSize(2)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        eventBus.stop();
+    }
+
+    @Test
+    void publish_shouldDeliverEventsInOrder() throws InterruptedException {
+        var received = new CopyOnWriteArrayList<String>();
+        var latch = new CountDownLatch(100);
+        eventBus.subscribe(event -> {
+            received.add(event.dataFlowId());
+            latch.countDown();
+        });
+
+        var expected = new ArrayList<String>();
+        for (var i = 0; i < 100; i++) {
+            expected.add("flow-" + i);
+            while (!eventBus.publish(event("flow-" + i))) {
+                Thread.onSpinWait();
+            }
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactlyElementsOf(expected);
+        assertThat(eventBus.published()).isEqualTo(100);
+    }
+
+    @Test
+    void publish_shouldPassBatchesToListener() throws InterruptedException {
+        var batches = new CopyOnWriteArrayList<Integer>();
+        var latch = new CountDownLatch(1);
+        var blocked = new CountDownLatch(1);
+        eventBus.subscribe(new DataFlowListener() {
+            @Override
+            public void onStateChanged(DataFlowStateChanged event) {
+            }
+
+            @Override
+            public void onStateChanged(List<DataFlowStateChanged> events) {
+                batches.add(events.size());
+                blocked.countDown();
+                await(latch);
+            }
+        });
+
+        eventBus.publish(event("first"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        eventBus.publish(event("second"));
+        eventBus.publish(event("third"));
+        latch.countDown();
+
+        waitUntil(() -> eventBus.lag() == 0 && batches.size() == 2);
+        assertThat(batches).containsExactly(1, 2);
+    }
+
+    @Test
+    void publish_shouldDropEvents_whenListenerLags() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var blocked = new CountDownLatch(1);
+        eventBus.subscribe(event -> {
+            blocked.countDown();
+            await(latch);
+        });
+
+        eventBus.publish(event("first"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (var i = 0; i < 6; i++) {
+            eventBus.publish(event("flow-" + i));
+        }
+
+        assertThat(eventBus.published()).isEqualTo(5);
+        assertThat(eventBus.dropped()).isEqualTo(2);
+        assertThat(eventBus.lag()).isEqualTo(4);
+
+        latch.countDown();
+        waitUntil(() -> eventBus.lag() == 0);
+    }
+
+    @Test
+    void publish_shouldKeepDelivering_whenListenerFails() throws InterruptedException {
+        var latch = new CountDownLatch(2);
+        eventBus.subscribe(event -> {
+            latch.countDown();
+            throw new IllegalStateException("failed");
+        });
+
+        eventBus.publish(event("first"));
+        waitUntil(() -> eventBus.listenerFailures() == 1);
+        eventBus.publish(event("second"));
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void publish_shouldDiscardEvents_whenThereAreNoListeners() {
+        assertThat(eventBus.publish(event("flow"))).isFalse();
+        assertThat(eventBus.published()).isZero();
+        assertThat(eventBus.dropped()).isZero();
+    }
+
+    private DataFlowStateChanged event(String dataFlowId) {
+        return new DataFlowStateChanged(dataFlowId, DataFlow.State.PREPARED, DataFlow.State.STARTED, DataFlow.Type.PROVIDER, "HttpData-PULL", "controlplane", System.currentTimeMillis());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataFlowMailboxTest {
+
+    private final DataFlowMailbox mailbox = new DataFlowMailbox();
+
+    @Test
+    void submit_sameDataFlow_shouldRunAfterPreviousOperationCompleted() {
+        var first = new CompletableFuture<String>();
+        var secondStarted = new AtomicBoolean();
+
+        mailbox.submit("flow", () -> first);
+        var second = mailbox.submit("flow", () -> {
+            secondStarted.set(true);
+            return CompletableFuture.completedFuture("second");
+        });
+
+        assertThat(secondStarted).isFalse();
+        first.complete("first");
+        assertThat(secondStarted).isTrue();
+        assertThat(second.toCompletableFuture()).isCompletedWithValue("second");
+        assertThat(mailbox.activeCount()).isZero();
+    }
+
+    @Test
+    void submit_differentDataFlows_shouldRunIndependently() {
+        mailbox.submit("flow", CompletableFuture::new);
+
+        var other = mailbox.submit("other", () -> CompletableFuture.completedFuture("other"));
+
+        assertThat(other.toCompletableFuture()).isCompletedWithValue("other");
+        assertThat(mailbox.activeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_operationFails_shouldContinueWithNextOperation() {
+        var failed = mailbox.submit("flow", () -> {
+            throw new IllegalStateException("failed");
+        });
+        var next = mailbox.submit("flow", () -> CompletableFuture.completedFuture("next"));
+
+        assertThat(failed.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(next.toCompletableFuture()).isCompletedWithValue("next");
+    }
+
+    @Test
+    void submit_concurrentReadModifyWrite_shouldNotLoseUpdates() {
+        var executor = Executors.newFixedThreadPool(8);
+        var counter = new int[1];
+        var results = new ArrayList<CompletableFuture<?>>();
+        try {
+            for (var i = 0; i < 10_000; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> mailbox.submit("flow", () -> CompletableFuture.supplyAsync(() -> {
+                    var read = counter[0];
+                    Thread.yield();
+                    counter[0] = read + 1;
+                    return read;
+                }, executor)), executor).thenCompose(it -> it));
+            }
+
+            assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))).succeedsWithin(Duration.ofSeconds(30));
+            assertThat(counter[0]).isEqualTo(10_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataFlowRecoveryTest {
+
+    @Test
+    void run_shouldRecoverDataFlowsOfAllPages() {
+        var recovery = DataFlowRecovery.newInstance().pageSize(2).build();
+        var dataFlows = List.of(dataFlow("1", DataFlow.State.STARTED), dataFlow("3", DataFlow.State.STARTING),
+                dataFlow("5", DataFlow.State.PREPARING));
+        var recovered = ConcurrentHashMap.<String>newKeySet();
+
+        var result = recovery.run(nonTerminal(dataFlows), dataFlow -> {
+            recovered.add(dataFlow.getId());
+            return CompletableFuture.completedFuture(Result.success());
+        });
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(report -> {
+            assertThat(report.succeeded()).isTrue();
+            assertThat(report.getContent().recovered()).isEqualTo(3);
+            assertThat(report.getContent().failed()).isZero();
+        });
+        assertThat(recovered).containsExactlyInAnyOrder("1", "3", "5");
+        assertThat(recovery.isReady()).isTrue();
+    }
+
+    @Test
+    void run_shouldBoundConcurrency() {
+        var recovery = DataFlowRecovery.newInstance().concurrency(4).executor(Executors.newCachedThreadPool()).build();
+        var dataFlows = new ArrayList<DataFlow>();
+        for (var i = 0; i < 100; i++) {
+            dataFlows.add(dataFlow(String.valueOf(i), DataFlow.State.STARTED));
+        }
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        var result = recovery.run(nonTerminal(dataFlows), dataFlow -> CompletableFuture.supplyAsync(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep();
+            running.decrementAndGet();
+            return Result.success();
+        }));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(maxRunning.get()).isBetween(1, 4);
+        assertThat(recovery.recovered()).isEqualTo(100);
+    }
+
+    @Test
+    void run_shouldCountFailures() {
+        var recovery = DataFlowRecovery.newInstance().build();
+
+        var result = recovery.run(nonTerminal(List.of(dataFlow("1", DataFlow.State.STARTED), dataFlow("2", DataFlow.State.STARTED))),
+                dataFlow -> dataFlow.getId().equals("1")
+                        ? CompletableFuture.completedFuture(Result.failure(new IllegalStateException("cannot resume")))
+                        : CompletableFuture.failedFuture(new RuntimeException("boom")));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(report -> assertThat(report.getContent().failed()).isEqualTo(2));
+    }
+
+    @Test
+    void run_shouldFail_whenQueryFails() {
+        var recovery = DataFlowRecovery.newInstance().build();
+
+        var result = recovery.run((afterId, limit) -> Result.failure(new IllegalStateException("store unavailable")),
+                dataFlow -> CompletableFuture.completedFuture(Result.success()));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(report -> assertThat(report.failed()).isTrue());
+        assertThat(recovery.ready()).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void run_shouldContinueAfterLastId_whenPageIsFull() {
+        var recovery = DataFlowRecovery.newInstance().pageSize(1).build();
+        var dataFlows = List.of(dataFlow("1", DataFlow.State.STARTED), dataFlow("2", DataFlow.State.STARTED));
+        var recovered = new ArrayList<String>();
+
+        var result = recovery.run(nonTerminal(dataFlows), dataFlow -> {
+            synchronized (recovered) {
+                recovered.add(dataFlow.getId());
+            }
+            return CompletableFuture.completedFuture(Result.success());
+        });
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(recovered).containsExactlyInAnyOrder("1", "2");
+    }
+
+    private BiFunction<String, Integer, Result<List<DataFlow>>> nonTerminal(List<DataFlow> dataFlows) {
+        var sorted = dataFlows.stream().sorted(Comparator.comparing(DataFlow::getId)).toList();
+        return (afterId, limit) -> Result.success(sorted.stream()
+                .filter(dataFlow -> dataFlow.getId().compareTo(afterId) > 0)
+                .limit(limit)
+                .toList());
+    }
+
+    private DataFlow dataFlow(String id, DataFlow.State state) {
+        return DataFlow.newInstance().id(id).state(state).build();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandlerExecutionTest {
+
+    private final ExecutorService executor = HandlerExecution.virtualThreads();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_callerThread_shouldRunOnCallingThread() {
+        var execution = HandlerExecution.callerThread();
+        var caller = Thread.currentThread();
+
+        var result = execution.execute("onStart", dataFlow("controlPlane"), dataFlow -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return CompletableFuture.completedFuture(Result.success(dataFlow));
+        });
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+    }
+
+    @Test
+    void execute_shouldBoundConcurrencyPerHandler() {
+        var execution = HandlerExecution.newInstance().executor(executor).maxConcurrencyPerHandler(2).build();
+        var pending = new CompletableFuture<Void>();
+        var running = new AtomicInteger();
+
+        var results = new ArrayList<CompletableFuture<Result<DataFlow>>>();
+        for (var i = 0; i < 5; i++) {
+            results.add(execution.execute("onPrepare", dataFlow("controlPlane"), dataFlow -> {
+                running.incrementAndGet();
+                return pending.thenApply(v -> Result.success(dataFlow));
+            }).toCompletableFuture());
+        }
+
+        await(() -> running.get() == 2 && execution.queueDepth() == 3);
+        pending.complete(null);
+
+        assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(running).hasValue(5);
+        assertThat(execution.queueDepth()).isZero();
+        assertThat(execution.maxWaitTime()).isPositive();
+    }
+
+    @Test
+    void execute_shouldBoundConcurrencyPerControlPlane() {
+        var execution = HandlerExecution.newInstance().executor(executor).maxConcurrencyPerControlPlane(1).build();
+        var pending = new CompletableFuture<Void>();
+        var running = new AtomicInteger();
+        OnStartAsync handler = dataFlow -> {
+            running.incrementAndGet();
+            return pending.thenApply(v -> Result.success(dataFlow));
+        };
+
+        execution.execute("onPrepare", dataFlow("first"), handler::action);
+        execution.execute("onStart", dataFlow("first"), handler::action);
+        execution.execute("onStart", dataFlow("second"), handler::action);
+
+        await(() -> running.get() == 2 && execution.queueDepth() == 1);
+        pending.complete(null);
+        await(() -> running.get() == 3);
+    }
+
+    @Test
+    void execute_handlerThrows_shouldReturnFailedResult() {
+        var execution = HandlerExecution.newInstance().executor(executor).build();
+
+        var result = execution.execute("onStart", dataFlow("controlPlane"), dataFlow -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThat(result.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(it -> assertThat(it.getException()).isInstanceOf(IllegalStateException.class));
+    }
+
+    private void await(BooleanSupplier condition) {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private DataFlow dataFlow(String controlPlaneId) {
+        return DataFlow.newInstance().id("id").controlplaneId(controlPlaneId).build();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.logic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private final TimingWheel timingWheel = TimingWheel.newInstance()
+            .tickDuration(Duration.ofMillis(10))
+            .wheelSize(8)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.stop();
+    }
+
+    @Test
+    void schedule_shouldRunTask_whenDelayElapsed() {
+        var scheduledAt = System.nanoTime();
+        var expiredAt = new CompletableFuture<Long>();
+
+        var timeout = timingWheel.schedule(() -> expiredAt.complete(System.nanoTime()), Duration.ofMillis(50));
+
+        assertThat(expiredAt).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(nanos -> assertThat(nanos - scheduledAt).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos()));
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timingWheel.pending()).isZero();
+    }
+
+    @Test
+    void schedule_shouldRunTask_whenDelaySpansMultipleRounds() {
+        var expired = new CompletableFuture<Void>();
+
+        timingWheel.schedule(() -> expired.complete(null), Duration.ofMillis(250));
+
+        assertThat(expired).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void cancel_shouldPreventTaskFromRunning() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var cancelled = timingWheel.schedule(latch::countDown, Duration.ofMillis(30));
+
+        assertThat(cancelled.cancel()).isTrue();
+
+        assertThat(latch.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(cancelled.isExpired()).isFalse();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(timingWheel.pending()).isZero();
+    }
+
+    @Test
+    void schedule_shouldRunAllTasks_whenManyAreScheduled() throws InterruptedException {
+        var latch = new CountDownLatch(10_000);
+
+        for (var i = 0; i < 10_000; i++) {
+            timingWheel.schedule(latch::countDown, Duration.ofMillis(i % 100));
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.port.exception.DataFlowNotifyControlPlaneFailed;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackCoalescerTest {
+
+    private final HttpClient httpClient = mock();
+    private final HttpRequest started = HttpRequest.newBuilder(URI.create("http://localhost/flow/started")).build();
+    private final HttpRequest completed = HttpRequest.newBuilder(URI.create("http://localhost/flow/completed")).build();
+
+    @Test
+    void submit_shouldDeliverBatch_whenLingerTimeElapsed() {
+        var ok = response(200);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(ok));
+        var coalescer = CallbackCoalescer.newInstance().linger(Duration.ofMillis(10)).build();
+
+        var first = coalescer.submit("cp", "flow", "started", false, true, started, httpClient).toCompletableFuture();
+        var second = coalescer.submit("cp", "other", "started", false, true, started, httpClient).toCompletableFuture();
+
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        assertThat(second).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        verify(httpClient, times(2)).sendAsync(any(), any());
+        assertThat(coalescer.flushed()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_shouldDropIntermediateCallbacks_whenTerminalCallbackIsSubmitted() {
+        var ok = response(200);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(ok));
+        var coalescer = CallbackCoalescer.newInstance().linger(Duration.ofMillis(10)).build();
+
+        var intermediate = coalescer.submit("cp", "flow", "started", false, true, started, httpClient).toCompletableFuture();
+        var terminal = coalescer.submit("cp", "flow", "completed", true, true, completed, httpClient).toCompletableFuture();
+
+        assertThat(intermediate).isCompleted();
+        assertThat(terminal).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        verify(httpClient, never()).sendAsync(eq(started), any());
+        verify(httpClient, times(1)).sendAsync(eq(completed), any());
+        assertThat(coalescer.superseded()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_shouldKeepIntermediateCallback_whenItCarriesContentTheTerminalCallbackLacks() {
+        var ok = response(200);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(ok));
+        var coalescer = CallbackCoalescer.newInstance().linger(Duration.ofMillis(10)).build();
+
+        var intermediate = coalescer.submit("cp", "flow", "started", false, false, started, httpClient).toCompletableFuture();
+        var terminal = coalescer.submit("cp", "flow", "completed", true, true, completed, httpClient).toCompletableFuture();
+
+        assertThat(intermediate).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        assertThat(terminal).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        var inOrder = inOrder(httpClient);
+        inOrder.verify(httpClient).sendAsync(eq(started), any());
+        inOrder.verify(httpClient).sendAsync(eq(completed), any());
+        assertThat(coalescer.superseded()).isZero();
+    }
+
+    @Test
+    void submit_shouldDeliverImmediately_whenBatchIsFull() {
+        var ok = response(200);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(ok));
+        var coalescer = CallbackCoalescer.newInstance().linger(Duration.ofMinutes(1)).maxBatchSize(2).build();
+
+        coalescer.submit("cp", "flow", "started", false, true, started, httpClient);
+        var result = coalescer.submit("cp", "other", "started", false, true, started, httpClient).toCompletableFuture();
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        verify(httpClient, times(2)).sendAsync(any(), any());
+    }
+
+    @Test
+    void submit_shouldFail_whenControlPlaneRejectsCallback() {
+        var badRequest = response(400);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(badRequest));
+        var coalescer = CallbackCoalescer.newInstance().linger(Duration.ofMillis(1)).build();
+
+        var result = coalescer.submit("cp", "flow", "started", false, true, started, httpClient).toCompletableFuture();
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(it -> assertThat(it.getException()).isInstanceOf(DataFlowNotifyControlPlaneFailed.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<String> response(int statusCode) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        return response;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import org.eclipse.dataplane.domain.Result;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackDispatcherTest {
+
+    private final HttpClient httpClient = mock();
+    private final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost/callback")).build();
+
+    @Test
+    void dispatch_shouldRetryOnServerErrorUntilSuccessful() {
+        var unavailable = response(503);
+        var ok = response(200);
+        when(httpClient.<String>sendAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(unavailable))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("refused")))
+                .thenReturn(CompletableFuture.completedFuture(ok));
+        var dispatcher = dispatcher(5);
+
+        var result = dispatcher.dispatch("flow", request, httpClient).toCompletableFuture();
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(it -> assertThat(it.getContent().statusCode()).isEqualTo(200));
+        verify(httpClient, times(3)).sendAsync(any(), any());
+        assertThat(dispatcher.retried()).isEqualTo(2);
+        assertThat(dispatcher.delivered()).isEqualTo(1);
+        assertThat(dispatcher.pending()).isZero();
+    }
+
+    @Test
+    void dispatch_shouldNotRetryOnClientError() {
+        var badRequest = response(400);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(badRequest));
+        var dispatcher = dispatcher(5);
+
+        var result = dispatcher.dispatch("flow", request, httpClient).toCompletableFuture();
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(it -> assertThat(it.getContent().statusCode()).isEqualTo(400));
+        verify(httpClient, times(1)).sendAsync(any(), any());
+        assertThat(dispatcher.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldReturnLastFailure_whenAttemptsAreExhausted() {
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new ConnectException("refused")));
+        var dispatcher = dispatcher(3);
+
+        var result = dispatcher.dispatch("flow", request, httpClient).toCompletableFuture();
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                .satisfies(it -> assertThat(it.getException()).isExactlyInstanceOf(ConnectException.class));
+        verify(httpClient, times(3)).sendAsync(any(), any());
+    }
+
+    @Test
+    void dispatch_shouldRejectCallbacks_whenCapacityIsExceeded() {
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(new CompletableFuture<>());
+        var dispatcher = CallbackDispatcher.newInstance().capacity(1).build();
+        dispatcher.dispatch("flow", request, httpClient);
+
+        var result = dispatcher.dispatch("other", request, httpClient).toCompletableFuture();
+
+        assertThat(result).isCompleted();
+        assertThat(result.join().getException()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(dispatcher.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_shouldDeliverCallbacksOfSameDataFlowInOrder() {
+        var first = new CompletableFuture<HttpResponse<String>>();
+        var ok = response(200);
+        when(httpClient.<String>sendAsync(any(), any()))
+                .thenReturn(first)
+                .thenReturn(CompletableFuture.completedFuture(ok));
+        var dispatcher = dispatcher(1);
+
+        dispatcher.dispatch("flow", request, httpClient);
+        var second = dispatcher.dispatch("flow", request, httpClient).toCompletableFuture();
+
+        verify(httpClient, times(1)).sendAsync(any(), any());
+        first.complete(ok);
+        assertThat(second).succeedsWithin(Duration.ofSeconds(5)).extracting(Result::succeeded).isEqualTo(true);
+        verify(httpClient, times(2)).sendAsync(any(), any());
+    }
+
+    private CallbackDispatcher dispatcher(int maxAttempts) {
+        return CallbackDispatcher.newInstance()
+                .maxAttempts(maxAttempts)
+                .initialBackoff(Duration.ofMillis(1))
+                .maxBackoff(Duration.ofMillis(5))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<String> response(int statusCode) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        return response;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CallbackTransportTest {
+
+    @Test
+    void client_shouldBeSharedByDefault() {
+        var transport = CallbackTransport.newInstance().build();
+
+        assertThat(transport.client("first")).isSameAs(transport.client("second")).isSameAs(transport.client(null));
+    }
+
+    @Test
+    void client_clientPerControlPlane_shouldBeDedicatedPerControlPlane() {
+        var transport = CallbackTransport.newInstance().clientPerControlPlane(true).build();
+
+        var first = transport.client("first");
+
+        assertThat(first).isSameAs(transport.client("first")).isNotSameAs(transport.client("second"));
+        transport.release("first");
+        assertThat(transport.client("first")).isNotSameAs(first);
+    }
+
+    @Test
+    void client_shouldApplySettings() {
+        var transport = CallbackTransport.newInstance()
+                .connectTimeout(Duration.ofSeconds(3))
+                .preferHttp2(false)
+                .build();
+
+        var client = transport.client(null);
+
+        assertThat(client.connectTimeout()).contains(Duration.ofSeconds(3));
+        assertThat(client.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+    }
+
+    @Test
+    void request_shouldApplyRequestTimeout() {
+        var transport = CallbackTransport.newInstance().requestTimeout(Duration.ofSeconds(5)).build();
+
+        var request = transport.request(URI.create("http://localhost/callback")).build();
+
+        assertThat(request.timeout()).contains(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void warmUp_unreachableEndpoint_shouldCompleteNormally() {
+        var transport = CallbackTransport.newInstance().connectTimeout(Duration.ofMillis(500)).warmUp(true).build();
+
+        var warmUp = transport.warmUp("controlPlane", URI.create("http://localhost:1/unreachable"));
+
+        assertThat(warmUp.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void warmUp_shouldBeDisabledByDefault() throws IOException {
+        var requests = new CopyOnWriteArrayList<String>();
+        var server = server(requests);
+        try {
+            var transport = CallbackTransport.newInstance().build();
+
+            var warmUp = transport.warmUp("controlPlane", URI.create("http://localhost:%d/callback".formatted(server.getAddress().getPort())));
+
+            assertThat(warmUp.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(5));
+            assertThat(requests).isEmpty();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void warmUp_shouldConnectToOriginOfCallbackAddressOnce() throws IOException {
+        var requests = new CopyOnWriteArrayList<String>();
+        var server = server(requests);
+        try {
+            var transport = CallbackTransport.newInstance().warmUp(true).build();
+            var callbackAddress = "http://localhost:%d/transfers".formatted(server.getAddress().getPort());
+
+            assertThat(transport.warmUp("controlPlane", URI.create(callbackAddress + "/first")).toCompletableFuture()).succeedsWithin(Duration.ofSeconds(5));
+            assertThat(transport.warmUp("controlPlane", URI.create(callbackAddress + "/second")).toCompletableFuture()).succeedsWithin(Duration.ofSeconds(5));
+
+            assertThat(requests).containsExactly("HEAD /");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private HttpServer server(List<String> requests) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.callback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.domain.DataAddress;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStatusMessage;
+import org.eclipse.dataplane.domain.registration.DataPlaneRegistrationMessage;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().setDefaultPropertyInclusion(NON_NULL);
+    private final MessageCodec codec = MessageCodec.withDefaultEncoders(objectMapper);
+
+    @Test
+    void encode_shouldMatchObjectMapper_whenStatusMessageHasDataAddress() throws Exception {
+        var dataAddress = new DataAddress("HttpData", "http://localhost/data", List.of(new DataAddress.EndpointProperty("string", "authorization", "token")));
+        var message = new DataFlowStatusMessage("flow", "STARTED", dataAddress, null);
+
+        var result = codec.encode(message);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(objectMapper.readTree(result.getContent())).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(message)));
+    }
+
+    @Test
+    void encode_shouldOmitNullFields_whenStatusMessageHasNoDataAddress() throws Exception {
+        var message = new DataFlowStatusMessage("flow", "TERMINATED", null, "failed with \"quotes\"");
+
+        var result = codec.encode(message);
+
+        assertThat(objectMapper.readTree(result.getContent())).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(message)));
+        assertThat(new String(result.getContent(), StandardCharsets.UTF_8)).doesNotContain("dataAddress");
+    }
+
+    @Test
+    void encode_shouldUseObjectWriter_whenNoEncoderIsRegistered() throws Exception {
+        var message = new DataPlaneRegistrationMessage("dataplane", URI.create("http://localhost/dataplane"), Set.of("HttpData-PULL"), Set.of());
+
+        var result = codec.encode(message);
+
+        assertThat(result.getContent()).isEqualTo(objectMapper.writeValueAsBytes(message));
+    }
+
+    @Test
+    void encode_shouldUseRegisteredEncoder() {
+        codec.register(String.class, (message, generator) -> generator.writeString(message.toUpperCase()));
+
+        var result = codec.encode("message");
+
+        assertThat(new String(result.getContent(), StandardCharsets.UTF_8)).isEqualTo("\"MESSAGE\"");
+    }
+}
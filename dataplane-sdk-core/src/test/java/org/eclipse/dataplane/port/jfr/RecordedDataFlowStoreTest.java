@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.port.store.InMemoryDataFlowStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordedDataFlowStoreTest {
+
+    private final RecordedDataFlowStore store = new RecordedDataFlowStore(new InMemoryDataFlowStore(new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false)));
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldEmitStoreEvents_whenEnabled() throws IOException {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable(StoreEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            store.save(dataFlow("flow-id"));
+            store.findById("flow-id");
+            store.findById("unknown");
+
+            recording.stop();
+            var file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events).hasSize(3);
+        assertThat(events.get(0).getString("call")).isEqualTo("save");
+        assertThat(events.get(0).getString("dataFlowId")).isEqualTo("flow-id");
+        assertThat(events.get(0).getString("state")).isEqualTo("STARTED");
+        assertThat(events.get(0).getString("transferType")).isEqualTo("HttpData-PULL");
+        assertThat(events.get(0).getBoolean("success")).isTrue();
+        assertThat(events.get(1).getString("call")).isEqualTo("findById");
+        assertThat(events.get(1).getString("state")).isEqualTo("STARTED");
+        assertThat(events.get(2).getString("dataFlowId")).isEqualTo("unknown");
+        assertThat(events.get(2).getBoolean("success")).isFalse();
+    }
+
+    @Test
+    void shouldNotEmitEvents_byDefault() throws IOException {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.start();
+
+            store.save(dataFlow("flow-id"));
+
+            recording.stop();
+            var file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events).noneMatch(event -> event.getEventType().getName().startsWith("org.eclipse.dataplane"));
+    }
+
+    private DataFlow dataFlow(String id) {
+        return DataFlow.newInstance().id(id).state(DataFlow.State.STARTED).transferType("HttpData-PULL").build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eclipse.dataplane.Dataplane;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowSuspendMessage;
+import org.eclipse.dataplane.domain.dataflow.DataFlowTerminateMessage;
+import org.eclipse.dataplane.logic.HandlerExecution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingEventTest {
+
+    private final ExecutorService handlerExecutor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch suspendReleased = new CountDownLatch(1);
+    private final Dataplane dataplane = Dataplane.newInstance()
+            .handlerExecution(HandlerExecution.newInstance().executor(handlerExecutor).build())
+            .onSuspend(dataFlow -> {
+                try {
+                    suspendReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Result.success(dataFlow);
+            })
+            .onTerminate(Result::success)
+            .build();
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        suspendReleased.countDown();
+        handlerExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldDescribeEachOperationWithItsOwnDataFlow_whenOperationsOnSameDataFlowOverlap() throws IOException {
+        dataplane.save(DataFlow.newInstance().id("flow-id").state(DataFlow.State.STARTED).transferType("HttpData-PULL")
+                .controlplaneId("control-plane").build());
+
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable(SignalingEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            var suspended = dataplane.suspendAsync("flow-id", new DataFlowSuspendMessage(null, "reason"));
+            var terminated = dataplane.terminateAsync("flow-id", new DataFlowTerminateMessage(null, "reason"));
+            suspendReleased.countDown();
+            assertThat(suspended).succeedsWithin(Duration.ofSeconds(5));
+            assertThat(terminated).succeedsWithin(Duration.ofSeconds(5));
+
+            recording.stop();
+            var file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events).extracting(event -> event.getString("operation") + ":" + event.getString("state"))
+                .containsExactlyInAnyOrder("suspend:SUSPENDED", "terminate:TERMINATED");
+    }
+}
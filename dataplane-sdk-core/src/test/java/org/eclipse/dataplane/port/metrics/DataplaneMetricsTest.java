@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.metrics;
+
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataplaneMetricsTest {
+
+    @Test
+    void dataFlowsByState_shouldReadCountsOnce_withinMaxAge() {
+        var metrics = new DataplaneMetrics(Duration.ofMinutes(1));
+        var reads = new AtomicInteger();
+        metrics.dataFlowsByState(() -> Result.success(Map.of(DataFlow.State.STARTED, (long) reads.incrementAndGet())));
+
+        var first = metrics.dataFlowsByState();
+        var second = metrics.dataFlowsByState();
+
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(second.getContent()).isEqualTo(first.getContent()).containsEntry(DataFlow.State.STARTED, 1L);
+    }
+
+    @Test
+    void dataFlowsByState_shouldReadCountsOnEveryCall_whenMaxAgeIsZero() {
+        var metrics = new DataplaneMetrics(Duration.ZERO);
+        var reads = new AtomicInteger();
+        metrics.dataFlowsByState(() -> Result.success(Map.of(DataFlow.State.STARTED, (long) reads.incrementAndGet())));
+
+        metrics.dataFlowsByState();
+        var second = metrics.dataFlowsByState();
+
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(second.getContent()).containsEntry(DataFlow.State.STARTED, 2L);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port.metrics;
+
+import org.eclipse.dataplane.domain.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimerTest {
+
+    private final Timer timer = new Timer();
+
+    @Test
+    void time_shouldRecordLatencyAndFailures() {
+        timer.time(Result::success);
+        timer.time(() -> Result.failure(new IllegalStateException("failed")));
+
+        assertThat(timer.latency().snapshot().count()).isEqualTo(2);
+        assertThat(timer.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void time_shouldCountException_asFailure() {
+        assertThatThrownBy(() -> timer.time(() -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void timeAsync_shouldRecord_whenStageCompletes() {
+        var future = new CompletableFuture<Result<Void>>();
+
+        timer.timeAsync(() -> future);
+        assertThat(timer.latency().snapshot().count()).isZero();
+
+        future.completeExceptionally(new RuntimeException("failed"));
+        assertThat(timer.latency().snapshot().count()).isEqualTo(1);
+        assertThat(timer.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_shouldCountLatenciesCumulativelyPerBucket() {
+        var histogram = new LatencyHistogram();
+        histogram.record(50_000);
+        histogram.record(100_000);
+        histogram.record(3_000_000);
+        histogram.record(60_000_000_000L);
+
+        var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.upperBounds()).startsWith(0.0001, 0.00025).endsWith(10);
+        assertThat(snapshot.cumulativeCounts()).startsWith(2, 2).endsWith(3, 4);
+        assertThat(snapshot.cumulativeCounts()[5]).isEqualTo(3);
+        assertThat(snapshot.count()).isEqualTo(4);
+        assertThat(snapshot.sum()).isEqualTo(60.00315);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.port.store.DataFlowStore;
+import org.eclipse.dataplane.port.store.TieredDataFlowStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredDataFlowStoreTest extends DataFlowStoreTestBase {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @TempDir
+    private Path directory;
+    private TieredDataFlowStore store;
+
+    @Override
+    protected DataFlowStore store() {
+        if (store == null) {
+            store = new TieredDataFlowStore(OBJECT_MAPPER, directory);
+        }
+        return store;
+    }
+
+    @Test
+    void save_suspendedDataFlow_shouldMoveToFileTierAndBackOnResume() throws IOException {
+        var dataFlow = DataFlow.newInstance().id("tiered").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        store().save(dataFlow);
+        assertThat(store.residentCount()).isEqualTo(1);
+
+        dataFlow.transitionToSuspended("suspend");
+        store().save(dataFlow);
+
+        assertThat(store.residentCount()).isZero();
+        assertThat(dataFlowFiles()).hasSize(1);
+        var suspended = store().findById("tiered");
+        assertThat(suspended.succeeded()).isTrue();
+        assertThat(suspended.getContent().getState()).isEqualTo(DataFlow.State.SUSPENDED);
+
+        dataFlow.transitionToStarted();
+        store().save(dataFlow);
+
+        assertThat(store.residentCount()).isEqualTo(1);
+        assertThat(dataFlowFiles()).isEmpty();
+        assertThat(store().findById("tiered").getContent().getState()).isEqualTo(DataFlow.State.STARTED);
+    }
+
+    @Test
+    void save_longId_shouldUseFileNameOfBoundedLength() throws IOException {
+        var id = "x".repeat(1000);
+        var dataFlow = DataFlow.newInstance().id(id).state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        dataFlow.transitionToCompleted();
+
+        var result = store().save(dataFlow);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(dataFlowFiles()).singleElement().satisfies(file -> assertThat(file.getFileName().toString()).hasSizeLessThan(100));
+        assertThat(store().findById(id).getContent().getState()).isEqualTo(DataFlow.State.COMPLETED);
+    }
+
+    @Test
+    void findChangedSince_shouldMergeFileTierInOrderAndSkipSupersededChanges() {
+        var watermark = store().findChangedSince(0, Integer.MAX_VALUE).getContent().watermark();
+        var moving = DataFlow.newInstance().id("moving").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        moving.transitionToSuspended("suspend");
+        store().save(moving);
+        var completed = DataFlow.newInstance().id("completed").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        completed.transitionToCompleted();
+        store().save(completed);
+        store().save(DataFlow.newInstance().id("active").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build());
+        moving.transitionToStarted();
+        store().save(moving);
+        moving.transitionToSuspended("suspend again");
+        store().save(moving);
+
+        var firstPage = store().findChangedSince(watermark, 2).getContent();
+        var secondPage = store().findChangedSince(firstPage.watermark(), 2).getContent();
+
+        assertThat(firstPage.dataFlows()).extracting(DataFlow::getId).containsExactly("completed", "active");
+        assertThat(secondPage.dataFlows()).extracting(DataFlow::getId).containsExactly("moving");
+        assertThat(secondPage.dataFlows().get(0).getSuspensionReason()).isEqualTo("suspend again");
+    }
+
+    @Test
+    void countByState_shouldTrackDataFlowsInFileTier() {
+        var dataFlow = DataFlow.newInstance().id("counted").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        store().save(dataFlow);
+        dataFlow.transitionToSuspended("suspend");
+        store().save(dataFlow);
+        dataFlow.transitionToTerminated("terminate");
+        store().save(dataFlow);
+
+        var counts = store().countByState().getContent();
+
+        assertThat(counts.getOrDefault(DataFlow.State.STARTED, 0L)).isZero();
+        assertThat(counts.getOrDefault(DataFlow.State.SUSPENDED, 0L)).isZero();
+        assertThat(counts.get(DataFlow.State.TERMINATED)).isEqualTo(1);
+    }
+
+    @Test
+    void save_shouldKeepFilesOfSuspendedDataFlowsApartFromTerminalOnes() throws IOException {
+        var suspended = DataFlow.newInstance().id("suspended").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        suspended.transitionToSuspended("suspend");
+        store().save(suspended);
+        var terminated = DataFlow.newInstance().id("terminated").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        terminated.transitionToTerminated("terminate");
+        store().save(terminated);
+
+        assertThat(dataFlowFiles(directory.resolve("suspended"))).hasSize(1);
+        assertThat(dataFlowFiles(directory.resolve("terminated"))).hasSize(1);
+
+        suspended.transitionToTerminated("terminate");
+        store().save(suspended);
+
+        assertThat(dataFlowFiles(directory.resolve("suspended"))).isEmpty();
+        assertThat(dataFlowFiles(directory.resolve("terminated"))).hasSize(2);
+        assertThat(store().findById("suspended").getContent().getState()).isEqualTo(DataFlow.State.TERMINATED);
+    }
+
+    @Test
+    void save_shouldCompactChangeLog_whenSupersededRecordsDominate() throws IOException {
+        var watermark = store().findChangedSince(0, Integer.MAX_VALUE).getContent().watermark();
+        var resting = DataFlow.newInstance().id("resting").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        resting.transitionToCompleted();
+        store().save(resting);
+        var flapping = DataFlow.newInstance().id("flapping").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        for (var i = 0; i < 2000; i++) {
+            flapping.transitionToSuspended("suspend " + i);
+            store().save(flapping);
+            flapping.transitionToStarted();
+            store().save(flapping);
+        }
+        flapping.transitionToSuspended("last");
+        store().save(flapping);
+
+        var changes = store().findChangedSince(watermark, Integer.MAX_VALUE).getContent();
+
+        assertThat(Files.size(directory.resolve("changes.log"))).isLessThan(1024L * 40);
+        assertThat(changes.dataFlows()).extracting(DataFlow::getId).containsExactly("resting", "flapping");
+        assertThat(changes.dataFlows().get(1).getSuspensionReason()).isEqualTo("last");
+    }
+
+    @Test
+    void shouldDiscardFilesLeftOverFromPreviousRun() {
+        var dataFlow = DataFlow.newInstance().id("leftover").state(DataFlow.State.STARTED).transferType("HTTP-PUSH").build();
+        dataFlow.transitionToCompleted();
+        store().save(dataFlow);
+
+        var restarted = new TieredDataFlowStore(OBJECT_MAPPER, directory);
+
+        assertThat(restarted.findById("leftover").failed()).isTrue();
+    }
+
+    private List<Path> dataFlowFiles() throws IOException {
+        try (var files = Files.walk(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".dataflow.json")).toList();
+        }
+    }
+
+    private List<Path> dataFlowFiles(Path stateDirectory) throws IOException {
+        try (var files = Files.list(stateDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".dataflow.json")).toList();
+        }
+    }
+}
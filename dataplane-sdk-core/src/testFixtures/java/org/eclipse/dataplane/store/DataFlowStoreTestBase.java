@@ -41,7 +41,8 @@ public abstract class DataFlowStoreTestBase {
 
             var persisted = store().findById(id).getContent();
             assertThat(persisted).isNotNull();
-            assertThat(persisted).usingRecursiveComparison().isEqualTo(dataFlow);
+            assertThat(persisted).usingRecursiveComparison().ignoringFields("updatedAt").isEqualTo(dataFlow);
+            assertThat(persisted.getUpdatedAt()).isPositive();
         }
 
         @Test
@@ -86,6 +87,115 @@ public abstract class DataFlowStoreTestBase {
         }
     }
 
+    @Nested
+    class FindChangedSince {
+        @Test
+        void findChangedSince_shouldReturnChangesAfterWatermarkInOrder() {
+            var watermark = currentWatermark();
+            store().save(dataFlow("first"));
+            store().save(dataFlow("second"));
+
+            var result = store().findChangedSince(watermark, 10);
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(result.getContent().dataFlows()).extracting(DataFlow::getId).containsExactly("first", "second");
+            assertThat(result.getContent().watermark()).isEqualTo(result.getContent().dataFlows().get(1).getUpdatedAt());
+        }
+
+        @Test
+        void findChangedSince_updatedDataFlow_shouldBeReturnedOnceWithLatestState() {
+            var watermark = currentWatermark();
+            var dataFlow = dataFlow("updated");
+            store().save(dataFlow);
+            store().save(dataFlow("other"));
+            dataFlow.transitionToStarted();
+            store().save(dataFlow);
+
+            var changes = store().findChangedSince(watermark, 10).getContent();
+
+            assertThat(changes.dataFlows()).extracting(DataFlow::getId).containsExactly("other", "updated");
+            assertThat(changes.dataFlows().get(1).getState()).isEqualTo(DataFlow.State.STARTED);
+        }
+
+        @Test
+        void findChangedSince_shouldRespectLimitAndContinueFromWatermark() {
+            var watermark = currentWatermark();
+            store().save(dataFlow("page1"));
+            store().save(dataFlow("page2"));
+
+            var firstPage = store().findChangedSince(watermark, 1).getContent();
+            var secondPage = store().findChangedSince(firstPage.watermark(), 1).getContent();
+            var thirdPage = store().findChangedSince(secondPage.watermark(), 1).getContent();
+
+            assertThat(firstPage.dataFlows()).extracting(DataFlow::getId).containsExactly("page1");
+            assertThat(secondPage.dataFlows()).extracting(DataFlow::getId).containsExactly("page2");
+            assertThat(thirdPage.dataFlows()).isEmpty();
+            assertThat(thirdPage.watermark()).isEqualTo(secondPage.watermark());
+        }
+
+        private long currentWatermark() {
+            return store().findChangedSince(0, Integer.MAX_VALUE).getContent().watermark();
+        }
+    }
+
+    @Nested
+    class FindNonTerminal {
+        @Test
+        void findNonTerminal_shouldReturnNonTerminalDataFlowsOrderedById() {
+            var terminated = dataFlow("nonTerminal-b");
+            terminated.transitionToTerminated("terminated");
+            var completed = dataFlow("nonTerminal-d");
+            completed.transitionToCompleted();
+            var suspended = dataFlow("nonTerminal-e");
+            suspended.transitionToSuspended("suspended");
+            store().save(dataFlow("nonTerminal-c"));
+            store().save(terminated);
+            store().save(completed);
+            store().save(suspended);
+            store().save(dataFlow("nonTerminal-a"));
+
+            var result = store().findNonTerminal("nonTerminal-", 10);
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(result.getContent()).extracting(DataFlow::getId).filteredOn(id -> id.startsWith("nonTerminal-"))
+                    .containsExactly("nonTerminal-a", "nonTerminal-c", "nonTerminal-e");
+        }
+
+        @Test
+        void findNonTerminal_shouldRespectLimitAndContinueAfterId() {
+            var terminated = dataFlow("paged-b");
+            terminated.transitionToTerminated("terminated");
+            store().save(dataFlow("paged-a"));
+            store().save(terminated);
+            store().save(dataFlow("paged-c"));
+
+            var firstPage = store().findNonTerminal("paged-", 1).getContent();
+            var secondPage = store().findNonTerminal(firstPage.get(0).getId(), 1).getContent();
+
+            assertThat(firstPage).extracting(DataFlow::getId).containsExactly("paged-a");
+            assertThat(secondPage).extracting(DataFlow::getId).containsExactly("paged-c");
+        }
+    }
+
+    @Nested
+    class CountByState {
+        @Test
+        void countByState_shouldCountDataFlowsPerCurrentState() {
+            var before = store().countByState().getContent();
+            var dataFlow = dataFlow("counted");
+            store().save(dataFlow);
+            store().save(dataFlow("countedToo"));
+            dataFlow.transitionToStarted();
+            store().save(dataFlow);
+
+            var result = store().countByState();
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(result.getContent().getOrDefault(DataFlow.State.INITIATING, 0L) - before.getOrDefault(DataFlow.State.INITIATING, 0L)).isEqualTo(1);
+            assertThat(result.getContent().getOrDefault(DataFlow.State.STARTED, 0L) - before.getOrDefault(DataFlow.State.STARTED, 0L)).isEqualTo(1);
+        }
+    }
+
     protected abstract DataFlowStore store();
 
     private DataFlow dataFlow(String id) {
@@ -0,0 +1,282 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.eclipse.dataplane.domain.Result;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Adaptive limit for concurrently processed signaling requests, following the AIMD algorithm: the limit grows by one
+ * while requests are served with latencies close to the baseline of their operation, i.e. the lowest latency observed
+ * recently for it, and it shrinks multiplicatively once latencies exceed the baseline by the configured tolerance. The
+ * limit shrinks at most once per round trip: samples of requests admitted before the last decrease don't decrease it
+ * again. Only successfully processed requests are sampled, as failed ones, e.g. for an unknown data flow, are
+ * answered without doing the actual work.
+ *
+ * <p>Requests above the limit are shed early with {@code 503 Service Unavailable}. Critical requests, i.e. those
+ * reducing load like terminate or suspend, get additional headroom above the limit, so they are still served when
+ * prepare and start requests are shed.
+ *
+ * <p>Releasing a permit takes no lock: the baselines are kept in a concurrent map with atomic window minimums, and
+ * the limit is updated with compare-and-set, so that the limiter doesn't become a contention point itself.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Permit UNLIMITED = new Permit() {
+        @Override
+        public void release() {
+        }
+
+        @Override
+        public void discard() {
+        }
+    };
+
+    private boolean enabled = true;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private double backoffRatio = 0.9;
+    private double latencyTolerance = 2.0;
+    private double criticalHeadroom = 0.5;
+    private int baselineWindow = 1000;
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * The limit as the bits of a double, so that it can be updated atomically.
+     */
+    private final AtomicLong limit = new AtomicLong(Double.doubleToLongBits(20));
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder shed = new LongAdder();
+    private final Map<String, Baseline> baselines = new ConcurrentHashMap<>();
+    private final AtomicLong decreasedAt = new AtomicLong(System.nanoTime());
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a limiter that admits all requests.
+     *
+     * @return the limiter
+     */
+    public static AdaptiveConcurrencyLimiter unlimited() {
+        var limiter = new AdaptiveConcurrencyLimiter();
+        limiter.enabled = false;
+        return limiter;
+    }
+
+    /**
+     * Admits a request if the number of requests in flight is below the current limit.
+     *
+     * @param operation the operation requested, e.g. "prepare", whose latencies are compared with each other
+     * @param priority the priority of the request
+     * @return a successful result containing the permit to release once the request is processed, or a failed
+     *         result with a {@link ServiceUnavailableException}
+     */
+    public Result<Permit> acquire(String operation, Priority priority) {
+        if (!enabled) {
+            return Result.success(UNLIMITED);
+        }
+
+        var current = limit();
+        var allowed = priority == Priority.CRITICAL ? current + (int) Math.ceil(current * criticalHeadroom) : current;
+        while (true) {
+            var requests = inFlight.get();
+            if (requests >= allowed) {
+                shed.increment();
+                return Result.failure(new ServiceUnavailableException("Dataplane is overloaded", retryAfter.toSeconds()));
+            }
+            if (inFlight.compareAndSet(requests, requests + 1)) {
+                break;
+            }
+        }
+
+        return Result.success(new SampledPermit(operation, System.nanoTime()));
+    }
+
+    public int limit() {
+        return (int) Double.longBitsToDouble(limit.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long shed() {
+        return shed.sum();
+    }
+
+    private void onSample(String operation, long startedAt, long latencyNanos, int requests) {
+        var baseline = baselines.computeIfAbsent(operation, it -> new Baseline());
+        baseline.windowMinNanos.accumulate(latencyNanos);
+        var samples = baseline.windowSamples.incrementAndGet();
+        if (baseline.nanos.get() == Long.MAX_VALUE || samples >= baselineWindow && baseline.windowSamples.compareAndSet(samples, 0)) {
+            var windowMin = baseline.windowMinNanos.getThenReset();
+            if (windowMin != Long.MAX_VALUE) {
+                // follow lower latencies immediately, but higher ones only slowly, so that sustained overload does not
+                // become the new baseline
+                baseline.nanos.updateAndGet(nanos -> windowMin < nanos ? windowMin : (long) (nanos * 0.9 + windowMin * 0.1));
+            }
+        }
+
+        if (latencyNanos > baseline.nanos.get() * latencyTolerance) {
+            var lastDecrease = decreasedAt.get();
+            if (startedAt - lastDecrease > 0 && decreasedAt.compareAndSet(lastDecrease, System.nanoTime())) {
+                updateLimit(current -> Math.max(minLimit, current * backoffRatio));
+            }
+        } else if (requests * 2 >= Double.longBitsToDouble(limit.get())) {
+            updateLimit(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        limit.updateAndGet(bits -> Double.doubleToLongBits(update.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+
+    /**
+     * Priority of a signaling request.
+     */
+    public enum Priority {
+        /**
+         * Requests adding load, e.g. prepare or start, shed first.
+         */
+        SHEDDABLE,
+        /**
+         * Requests reducing load or completing running transfers, e.g. terminate or suspend.
+         */
+        CRITICAL
+    }
+
+    /**
+     * Permit for an admitted request.
+     */
+    public interface Permit {
+
+        /**
+         * Releases the permit once the request is processed, feeding its latency into the limit.
+         */
+        void release();
+
+        /**
+         * Releases the permit without feeding its latency into the limit, e.g. once the request failed.
+         */
+        void discard();
+    }
+
+    private static class Baseline {
+        private final AtomicLong nanos = new AtomicLong(Long.MAX_VALUE);
+        private final LongAccumulator windowMinNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final AtomicInteger windowSamples = new AtomicInteger();
+    }
+
+    private class SampledPermit implements Permit {
+        private final String operation;
+        private final long startedAt;
+
+        SampledPermit(String operation, long startedAt) {
+            this.operation = operation;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void release() {
+            var requests = inFlight.getAndDecrement();
+            onSample(operation, startedAt, System.nanoTime() - startedAt, requests);
+        }
+
+        @Override
+        public void discard() {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public static class Builder {
+
+        private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+
+        private Builder() {
+
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            limiter.updateLimit(limit -> Math.max(limiter.minLimit, Math.min(limiter.maxLimit, limit)));
+            return limiter;
+        }
+
+        public Builder initialLimit(int initialLimit) {
+            limiter.limit.set(Double.doubleToLongBits(initialLimit));
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            limiter.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            limiter.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Factor the limit is multiplied with once latency exceeds the tolerance, between 0 and 1.
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            limiter.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Multiple of the baseline latency above which requests are considered delayed by overload.
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            limiter.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Fraction of the limit critical requests may exceed it by.
+         */
+        public Builder criticalHeadroom(double criticalHeadroom) {
+            limiter.criticalHeadroom = criticalHeadroom;
+            return this;
+        }
+
+        /**
+         * Number of requests of an operation after which its baseline latency is re-evaluated.
+         */
+        public Builder baselineWindow(int baselineWindow) {
+            limiter.baselineWindow = baselineWindow;
+            return this;
+        }
+
+        /**
+         * Value of the Retry-After header of shed requests.
+         */
+        public Builder retryAfter(Duration retryAfter) {
+            limiter.retryAfter = retryAfter;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - event bus metrics
+ *
+ */
+
+package org.eclipse.dataplane.port;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import org.eclipse.dataplane.Dataplane;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.port.metrics.LatencyHistogram;
+import org.eclipse.dataplane.port.metrics.Timer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exposes the {@link org.eclipse.dataplane.port.metrics.DataplaneMetrics} of a {@link Dataplane} in the Prometheus
+ * text exposition format.
+ */
+@Path("/metrics")
+public class DataPlaneMetricsController {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Dataplane dataplane;
+
+    public DataPlaneMetricsController(Dataplane dataplane) {
+        this.dataplane = dataplane;
+    }
+
+    @GET
+    @Produces(CONTENT_TYPE)
+    public String scrape() {
+        var metrics = dataplane.metrics();
+        var builder = new StringBuilder(4096);
+
+        timers(builder, "dataplane_operation", "Signaling operations", "operation", metrics.operations());
+        timers(builder, "dataplane_handler", "Handler invocations", "handler", metrics.handlers());
+        timers(builder, "dataplane_store", "DataFlow store calls", "call", metrics.storeCalls());
+        timers(builder, "dataplane_callback", "Control plane callbacks", "action", metrics.callbacks());
+
+        metrics.dataFlowsByState().onSuccess(counts -> {
+            builder.append("# HELP dataplane_dataflows Number of DataFlows per state.\n");
+            builder.append("# TYPE dataplane_dataflows gauge\n");
+            for (var state : DataFlow.State.values()) {
+                builder.append("dataplane_dataflows{state=\"").append(state.name()).append("\"} ")
+                        .append(counts.getOrDefault(state, 0L)).append('\n');
+            }
+        });
+
+        var eventBus = dataplane.eventBus();
+        counter(builder, "dataplane_events_published_total", "DataFlow state changes published to the listeners.", eventBus.published());
+        counter(builder, "dataplane_events_dropped_total", "DataFlow state changes dropped because the listeners lagged behind.", eventBus.dropped());
+        counter(builder, "dataplane_listener_failures_total", "DataFlow listener calls that threw an exception.", eventBus.listenerFailures());
+        builder.append("# HELP dataplane_events_lag DataFlow state changes not yet delivered to the listeners.\n");
+        builder.append("# TYPE dataplane_events_lag gauge\n");
+        builder.append("dataplane_events_lag ").append(eventBus.lag()).append('\n');
+
+        return builder.toString();
+    }
+
+    private void counter(StringBuilder builder, String name, String description, long value) {
+        builder.append("# HELP ").append(name).append(' ').append(description).append('\n');
+        builder.append("# TYPE ").append(name).append(" counter\n");
+        builder.append(name).append(' ').append(value).append('\n');
+    }
+
+    private void timers(StringBuilder builder, String prefix, String description, String label, Map<String, Timer> timers) {
+        if (timers.isEmpty()) {
+            return;
+        }
+        var sorted = new TreeMap<>(timers);
+
+        builder.append("# HELP ").append(prefix).append("_duration_seconds ").append(description).append(", latency in seconds.\n");
+        builder.append("# TYPE ").append(prefix).append("_duration_seconds histogram\n");
+        sorted.forEach((name, timer) -> histogram(builder, prefix + "_duration_seconds", label + "=\"" + escape(name) + "\"", timer.latency().snapshot()));
+
+        builder.append("# HELP ").append(prefix).append("_failures_total ").append(description).append(", number of failures.\n");
+        builder.append("# TYPE ").append(prefix).append("_failures_total counter\n");
+        sorted.forEach((name, timer) -> builder.append(prefix).append("_failures_total{").append(label).append("=\"").append(escape(name)).append("\"} ")
+                .append(timer.failures()).append('\n'));
+    }
+
+    private void histogram(StringBuilder builder, String name, String labels, LatencyHistogram.Snapshot snapshot) {
+        var upperBounds = snapshot.upperBounds();
+        var cumulativeCounts = snapshot.cumulativeCounts();
+        for (var i = 0; i < upperBounds.length; i++) {
+            builder.append(name).append("_bucket{").append(labels).append(",le=\"")
+                    .append(BigDecimal.valueOf(upperBounds[i]).stripTrailingZeros().toPlainString()).append("\"} ")
+                    .append(cumulativeCounts[i]).append('\n');
+        }
+        builder.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(snapshot.count()).append('\n');
+        builder.append(name).append("_sum{").append(labels).append("} ").append(snapshot.sum()).append('\n');
+        builder.append(name).append("_count{").append(labels).append("} ").append(snapshot.count()).append('\n');
+    }
+
+    private String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
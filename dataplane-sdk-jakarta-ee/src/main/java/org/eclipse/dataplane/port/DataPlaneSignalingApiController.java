@@ -10,6 +10,8 @@
  *  Contributors:
  *       Think-it GmbH - initial API and implementation
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - resume endpoint
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - trace context
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - concurrency limit
  *
  */
 
@@ -36,9 +38,13 @@ import org.eclipse.dataplane.domain.dataflow.DataFlowStatusResponseMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowSuspendMessage;
 import org.eclipse.dataplane.domain.dataflow.DataFlowTerminateMessage;
 
+import java.util.function.Supplier;
+
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.WILDCARD;
+import static org.eclipse.dataplane.port.AdaptiveConcurrencyLimiter.Priority.CRITICAL;
+import static org.eclipse.dataplane.port.AdaptiveConcurrencyLimiter.Priority.SHEDDABLE;
 
 @Path("/v1/dataflows")
 @Consumes(APPLICATION_JSON)
@@ -46,78 +52,129 @@ import static jakarta.ws.rs.core.MediaType.WILDCARD;
 public class DataPlaneSignalingApiController {
 
     private final Dataplane dataplane;
+    private final AdaptiveConcurrencyLimiter limiter;
 
     public DataPlaneSignalingApiController(Dataplane dataplane) {
+        this(dataplane, AdaptiveConcurrencyLimiter.unlimited());
+    }
+
+    /**
+     * Creates the controller, shedding requests exceeding the limit of the given limiter.
+     *
+     * @param dataplane the dataplane
+     * @param limiter the concurrency limiter
+     */
+    public DataPlaneSignalingApiController(Dataplane dataplane, AdaptiveConcurrencyLimiter limiter) {
         this.dataplane = dataplane;
+        this.limiter = limiter;
     }
 
     @POST
     @Path("/prepare")
     public Response prepare(DataFlowPrepareMessage message, @Context ContainerRequestContext requestContext) {
-        var response = extractControlplaneId(requestContext)
-                .compose(controlplaneId -> dataplane.prepare(controlplaneId, message))
-                .orElseThrow(ExceptionMapper.MAP_TO_WSRS);
-
-        if (response.state().equals(DataFlow.State.PREPARING.name())) {
-            return Response.accepted(response).build();
-        }
-        return Response.ok(response).build();
+        return limited("prepare", SHEDDABLE, requestContext, () -> {
+            var response = extractControlplaneId(requestContext)
+                    .compose(controlplaneId -> dataplane.prepare(controlplaneId, message))
+                    .orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+
+            if (response.state().equals(DataFlow.State.PREPARING.name())) {
+                return Response.accepted(response).build();
+            }
+            return Response.ok(response).build();
+        });
     }
 
     @POST
     @Path("/start")
     public Response start(DataFlowStartMessage message, @Context ContainerRequestContext requestContext) {
-        var response = extractControlplaneId(requestContext)
-                .compose(controlplaneId -> dataplane.start(controlplaneId, message))
-                .orElseThrow(ExceptionMapper.MAP_TO_WSRS);
-
-        if (response.state().equals(DataFlow.State.STARTING.name())) {
-            return Response.accepted(response).build();
-        }
-        return Response.ok(response).build();
+        return limited("start", SHEDDABLE, requestContext, () -> {
+            var response = extractControlplaneId(requestContext)
+                    .compose(controlplaneId -> dataplane.start(controlplaneId, message))
+                    .orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+
+            if (response.state().equals(DataFlow.State.STARTING.name())) {
+                return Response.accepted(response).build();
+            }
+            return Response.ok(response).build();
+        });
     }
 
     @POST
     @Path("/{flowId}/suspend")
-    public Response suspend(@PathParam("flowId") String flowId, DataFlowSuspendMessage message) {
-        dataplane.suspend(flowId, message).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
-        return Response.ok().build();
+    public Response suspend(@PathParam("flowId") String flowId, DataFlowSuspendMessage message, @Context ContainerRequestContext requestContext) {
+        return limited("suspend", CRITICAL, requestContext, () -> {
+            dataplane.suspend(flowId, message).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+            return Response.ok().build();
+        });
     }
 
     @POST
     @Path("/{flowId}/resume")
-    public Response resume(@PathParam("flowId") String flowId, DataFlowResumeMessage message) {
-        var response = dataplane.resume(flowId, message).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+    public Response resume(@PathParam("flowId") String flowId, DataFlowResumeMessage message, @Context ContainerRequestContext requestContext) {
+        return limited("resume", SHEDDABLE, requestContext, () -> {
+            var response = dataplane.resume(flowId, message).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
 
-        return Response.ok(response).build();
+            return Response.ok(response).build();
+        });
     }
 
     @POST
     @Path("/{flowId}/terminate")
-    public Response terminate(@PathParam("flowId") String flowId, DataFlowTerminateMessage message) {
-        dataplane.terminate(flowId, message).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
-        return Response.ok().build();
+    public Response terminate(@PathParam("flowId") String flowId, DataFlowTerminateMessage message, @Context ContainerRequestContext requestContext) {
+        return limited("terminate", CRITICAL, requestContext, () -> {
+            dataplane.terminate(flowId, message).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+            return Response.ok().build();
+        });
     }
 
     @POST
     @Path("/{flowId}/started")
-    public Response started(@PathParam("flowId") String flowId, DataFlowStartedNotificationMessage startedNotificationMessage) {
-        dataplane.started(flowId, startedNotificationMessage).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
-        return Response.ok().build();
+    public Response started(@PathParam("flowId") String flowId, DataFlowStartedNotificationMessage startedNotificationMessage, @Context ContainerRequestContext requestContext) {
+        return limited("started", CRITICAL, requestContext, () -> {
+            dataplane.started(flowId, startedNotificationMessage).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+            return Response.ok().build();
+        });
     }
 
     @POST
     @Path("/{flowId}/completed")
     @Consumes(WILDCARD)
-    public Response completed(@PathParam("flowId") String flowId) {
-        dataplane.completed(flowId).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
-        return Response.ok().build();
+    public Response completed(@PathParam("flowId") String flowId, @Context ContainerRequestContext requestContext) {
+        return limited("completed", CRITICAL, requestContext, () -> {
+            dataplane.completed(flowId).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+            return Response.ok().build();
+        });
     }
 
     @GET
     @Path("/{flowId}/status")
-    public DataFlowStatusResponseMessage status(@PathParam("flowId") String flowId) {
-        return dataplane.status(flowId).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+    public DataFlowStatusResponseMessage status(@PathParam("flowId") String flowId, @Context ContainerRequestContext requestContext) {
+        var scope = dataplane.tracing().extract(requestContext::getHeaderString);
+        try {
+            return dataplane.status(flowId).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Handles the request within the limits of the concurrency limiter, with the trace context propagated by the
+     * control plane as parent of the spans started by the dataplane. Only the latencies of successfully handled
+     * requests are fed into the limit.
+     */
+    private Response limited(String operation, AdaptiveConcurrencyLimiter.Priority priority, ContainerRequestContext requestContext, Supplier<Response> request) {
+        var permit = limiter.acquire(operation, priority).orElseThrow(ExceptionMapper.MAP_TO_WSRS);
+        var scope = dataplane.tracing().extract(requestContext::getHeaderString);
+        try {
+            var response = request.get();
+            permit.release();
+            return response;
+        } catch (RuntimeException e) {
+            permit.discard();
+            throw e;
+        } finally {
+            scope.close();
+        }
     }
 
     private Result<String> extractControlplaneId(ContainerRequestContext requestContext) {
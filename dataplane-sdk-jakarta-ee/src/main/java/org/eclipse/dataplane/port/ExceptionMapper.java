@@ -16,12 +16,17 @@
 package org.eclipse.dataplane.port;
 
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.NotAuthorizedException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.dataplane.port.exception.AuthorizationNotSupported;
 import org.eclipse.dataplane.port.exception.ControlPlaneNotRegistered;
+import org.eclipse.dataplane.port.exception.IllegalStateTransition;
 import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
+import org.eclipse.dataplane.port.exception.TooManyRequests;
 import org.eclipse.dataplane.port.exception.UnauthorizedException;
 
 import java.util.function.Function;
@@ -41,10 +46,22 @@ public interface ExceptionMapper {
             return new NotAuthorizedException(controlPlaneNotRegistered);
         }
 
+        if (exception instanceof IllegalStateTransition) {
+            return new ClientErrorException(exception.getMessage(), Response.Status.CONFLICT, exception);
+        }
+
         if (exception instanceof AuthorizationNotSupported) {
             return new BadRequestException(exception);
         }
 
+        if (exception instanceof TooManyRequests tooManyRequests) {
+            var retryAfterSeconds = Math.max(1, (tooManyRequests.getRetryAfter().toMillis() + 999) / 1000);
+            var response = Response.status(Response.Status.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                    .build();
+            return new WebApplicationException(exception.getMessage(), exception, response);
+        }
+
         if (exception instanceof UnauthorizedException unauthorized) {
             return new NotAuthorizedException(unauthorized);
         }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.tracing.opentelemetry;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.eclipse.dataplane.port.tracing.Scope;
+import org.eclipse.dataplane.port.tracing.Span;
+
+import java.util.function.BiConsumer;
+
+/**
+ * {@link Span} backed by an OpenTelemetry span. Attributes and errors are only set if the span is recorded.
+ */
+class OpenTelemetrySpan implements Span {
+
+    private final io.opentelemetry.api.trace.Span span;
+    private final TextMapPropagator propagator;
+    private final TextMapSetter<BiConsumer<String, String>> setter;
+
+    OpenTelemetrySpan(io.opentelemetry.api.trace.Span span, TextMapPropagator propagator, TextMapSetter<BiConsumer<String, String>> setter) {
+        this.span = span;
+        this.propagator = propagator;
+        this.setter = setter;
+    }
+
+    @Override
+    public Span attribute(String key, String value) {
+        if (value != null && span.isRecording()) {
+            span.setAttribute(key, value);
+        }
+        return this;
+    }
+
+    @Override
+    public Scope makeCurrent() {
+        return span.makeCurrent()::close;
+    }
+
+    @Override
+    public void inject(BiConsumer<String, String> headers) {
+        propagator.inject(Context.current().with(span), headers, setter);
+    }
+
+    @Override
+    public void end(Exception error) {
+        if (error != null && span.isRecording()) {
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR, error.getMessage());
+        }
+        span.end();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.tracing.opentelemetry;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.eclipse.dataplane.port.tracing.Scope;
+import org.eclipse.dataplane.port.tracing.Span;
+import org.eclipse.dataplane.port.tracing.SpanKind;
+import org.eclipse.dataplane.port.tracing.Tracing;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * {@link Tracing} based on OpenTelemetry, propagating the W3C trace context by default. Whether spans are recorded is
+ * decided by the sampler of the tracer provider, e.g. {@code Sampler.parentBased(Sampler.traceIdRatioBased(ratio))}
+ * to record a ratio of the traces started by the dataplane and the traces sampled by the control plane. Spans that are
+ * not sampled are not recorded, but their trace context is still propagated.
+ */
+public class OpenTelemetryTracing implements Tracing {
+
+    static final String INSTRUMENTATION_SCOPE = "org.eclipse.dataplane";
+
+    private static final TextMapGetter<Function<String, String>> HEADER_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Function<String, String> headers) {
+            return List.of(TRACEPARENT, TRACESTATE);
+        }
+
+        @Override
+        public String get(Function<String, String> headers, String key) {
+            return headers == null ? null : headers.apply(key);
+        }
+    };
+    private static final TextMapSetter<BiConsumer<String, String>> HEADER_SETTER = (headers, key, value) -> {
+        if (headers != null) {
+            headers.accept(key, value);
+        }
+    };
+
+    private io.opentelemetry.api.trace.Tracer tracer;
+    private TextMapPropagator propagator = W3CTraceContextPropagator.getInstance();
+
+    public static Builder newInstance() {
+        return new Builder();
+    }
+
+    @Override
+    public Scope extract(Function<String, String> headers) {
+        return propagator.extract(Context.current(), headers, HEADER_GETTER).makeCurrent()::close;
+    }
+
+    @Override
+    public Span startSpan(String name, SpanKind kind) {
+        var span = tracer.spanBuilder(name).setSpanKind(spanKind(kind)).startSpan();
+        return new OpenTelemetrySpan(span, propagator, HEADER_SETTER);
+    }
+
+    private io.opentelemetry.api.trace.SpanKind spanKind(SpanKind kind) {
+        return switch (kind) {
+            case INTERNAL -> io.opentelemetry.api.trace.SpanKind.INTERNAL;
+            case SERVER -> io.opentelemetry.api.trace.SpanKind.SERVER;
+            case CLIENT -> io.opentelemetry.api.trace.SpanKind.CLIENT;
+        };
+    }
+
+    public static class Builder {
+
+        private final OpenTelemetryTracing tracing = new OpenTelemetryTracing();
+
+        private Builder() {
+
+        }
+
+        public OpenTelemetryTracing build() {
+            if (tracing.tracer == null) {
+                tracing.tracer = GlobalOpenTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+            }
+            return tracing;
+        }
+
+        /**
+         * The OpenTelemetry instance providing the tracer. By default, the global instance is used.
+         */
+        public Builder openTelemetry(OpenTelemetry openTelemetry) {
+            tracing.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+            return this;
+        }
+
+        /**
+         * The propagator for extracting and injecting the trace context, the W3C trace context propagator by default.
+         */
+        public Builder propagator(TextMapPropagator propagator) {
+            tracing.propagator = propagator;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.tracing.opentelemetry;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.eclipse.dataplane.Dataplane;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowSuspendMessage;
+import org.eclipse.dataplane.domain.dataflow.DataFlowTerminateMessage;
+import org.eclipse.dataplane.logic.HandlerExecution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataplaneTracingTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final ExecutorService handlerExecutor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch suspendReleased = new CountDownLatch(1);
+    private final Dataplane dataplane = Dataplane.newInstance()
+            .tracing(tracing())
+            .handlerExecution(HandlerExecution.newInstance().executor(handlerExecutor).build())
+            .onSuspend(dataFlow -> {
+                try {
+                    suspendReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Result.success(dataFlow);
+            })
+            .onTerminate(Result::success)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        suspendReleased.countDown();
+        handlerExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldTraceStoreCallsAndHandlersAsChildrenOfOperation_whenHandlerCompletesOnAnotherThread() {
+        save("flow-id");
+
+        var result = dataplane.terminateAsync("flow-id", new DataFlowTerminateMessage(null, "reason"));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(it -> assertThat(it.succeeded()).isTrue());
+        assertChildrenOf("dataplane terminate", "dataflow store findById", "handler onTerminate", "dataflow store save");
+    }
+
+    @Test
+    void shouldTraceQueuedOperationOnItsOwn_whenRunByThreadOfPreviousOperation() {
+        save("flow-id");
+
+        var suspended = dataplane.suspendAsync("flow-id", new DataFlowSuspendMessage(null, "reason"));
+        var terminated = dataplane.terminateAsync("flow-id", new DataFlowTerminateMessage(null, "reason"));
+        suspendReleased.countDown();
+
+        assertThat(suspended).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(terminated).succeedsWithin(Duration.ofSeconds(5));
+        assertChildrenOf("dataplane suspend", "dataflow store findById", "handler onSuspend", "dataflow store save");
+        assertChildrenOf("dataplane terminate", "dataflow store findById", "handler onTerminate", "dataflow store save");
+    }
+
+    private void save(String id) {
+        dataplane.save(DataFlow.newInstance().id(id).state(DataFlow.State.STARTED).transferType("HttpData-PULL")
+                .controlplaneId("control-plane").build());
+        exporter.reset();
+    }
+
+    private void assertChildrenOf(String operation, String... children) {
+        var spans = exporter.getFinishedSpanItems();
+        var parent = spans.stream().filter(span -> span.getName().equals(operation)).findFirst().orElseThrow();
+
+        assertThat(spans).filteredOn(span -> span.getParentSpanId().equals(parent.getSpanId()))
+                .extracting(SpanData::getName)
+                .containsExactlyInAnyOrder(children);
+        assertThat(spans).filteredOn(span -> span.getName().startsWith("dataplane "))
+                .allSatisfy(span -> assertThat(span.getParentSpanContext().isValid()).isFalse());
+    }
+
+    private OpenTelemetryTracing tracing() {
+        var tracerProvider = SdkTracerProvider.builder()
+                .setSampler(Sampler.alwaysOn())
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        var openTelemetry = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+        return OpenTelemetryTracing.newInstance().openTelemetry(openTelemetry).build();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.tracing.opentelemetry;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.eclipse.dataplane.port.tracing.SpanKind;
+import org.eclipse.dataplane.port.tracing.Tracing;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenTelemetryTracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    @Test
+    void startSpan_shouldBeChildOfExtractedRemoteParent() {
+        var tracing = tracing(1.0);
+
+        var scope = tracing.extract(Map.of(Tracing.TRACEPARENT, TRACEPARENT)::get);
+        var span = tracing.startSpan("dataplane prepare", SpanKind.INTERNAL).attribute("dataflow.id", "flow");
+        span.end(null);
+        scope.close();
+
+        assertThat(exporter.getFinishedSpanItems()).singleElement().satisfies(data -> {
+            assertThat(data.getTraceId()).isEqualTo(TRACE_ID);
+            assertThat(data.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(data.getAttributes().asMap()).containsValue("flow");
+        });
+    }
+
+    @Test
+    void inject_shouldPropagateSpanAsTraceparent() {
+        var tracing = tracing(1.0);
+        var headers = new HashMap<String, String>();
+
+        var scope = tracing.extract(Map.of(Tracing.TRACEPARENT, TRACEPARENT)::get);
+        var span = tracing.startSpan("callback completed", SpanKind.CLIENT);
+        span.inject(headers::put);
+        span.end(new IllegalStateException("failed"));
+        scope.close();
+
+        var data = exporter.getFinishedSpanItems().get(0);
+        assertThat(headers).containsEntry(Tracing.TRACEPARENT, "00-" + TRACE_ID + "-" + data.getSpanId() + "-01");
+        assertThat(data.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    @Test
+    void startSpan_shouldNotRecord_whenNotSampled() {
+        var tracing = tracing(0.0);
+        var headers = new HashMap<String, String>();
+
+        var span = tracing.startSpan("dataplane start", SpanKind.INTERNAL);
+        span.inject(headers::put);
+        span.end(null);
+
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+        assertThat(headers.get(Tracing.TRACEPARENT)).endsWith("-00");
+    }
+
+    private Tracing tracing(double samplingRatio) {
+        var tracerProvider = SdkTracerProvider.builder()
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(samplingRatio)))
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        var openTelemetry = OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+        return OpenTelemetryTracing.newInstance().openTelemetry(openTelemetry).build();
+    }
+}
@@ -18,6 +18,7 @@ plugins {
 
 dependencies {
     implementation(project(":dataplane-sdk-core"))
+    api(project(":dataplane-sdk-sql"))
 
     implementation(libs.jackson.databind)
 
@@ -26,7 +27,38 @@ dependencies {
     testImplementation(platform(libs.junit.bom))
     testImplementation(libs.junit.jupiter)
     testRuntimeOnly(libs.junit.launcher)
+    testImplementation(libs.assertJ)
+    testImplementation(libs.awaitility)
     testImplementation(libs.testcontainers.junit.jupiter)
     testImplementation(libs.testcontainers.postgresql)
     testImplementation(libs.postgresql)
 }
+
+// JMH benchmarks, run with: ./gradlew :dataplane-sdk-postgresql:jmh -PjmhArgs="<jmh options>"
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"(project(":dataplane-sdk-core"))
+    "jmhImplementation"(libs.jmh.core)
+    "jmhImplementation"(libs.hikaricp)
+    "jmhImplementation"(libs.postgresql)
+    "jmhImplementation"(libs.testcontainers.postgresql)
+    "jmhAnnotationProcessor"(libs.jmh.annprocess)
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks against a PostgreSQL database."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { resultFile.parentFile.mkdirs() }
+    args("-rf", "json", "-rff", resultFile.absolutePath)
+    (findProperty("jmhArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.postgresql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.eclipse.dataplane.domain.DataAddress;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+/**
+ * Benchmarks for the {@link PostgresDataFlowStore} under concurrent load. Measures throughput and the
+ * latency distribution (percentiles and histogram of the sample-time mode) of upserts of existing
+ * data flows, inserts of new ones, lookups by id and read-modify-write state transitions, for different
+ * table sizes.
+ *
+ * <p>By default, a PostgreSQL instance is started via Testcontainers. To run against an existing
+ * database, pass its connection details as system properties, e.g.
+ * {@code -jvmArgs "-Ddataplane.benchmark.jdbcUrl=jdbc:postgresql://localhost:5432/dataplane
+ * -Ddataplane.benchmark.username=user -Ddataplane.benchmark.password=password"}.
+ *
+ * <p>Concurrency and table sizes are configured through the usual JMH options, e.g.
+ * {@code ./gradlew :dataplane-sdk-postgresql:jmh -PjmhArgs="-t 16 -p tableSize=1000000"}. The thread
+ * distribution of the {@code mixed} group (save, find, transition) can be changed with e.g. {@code -tg 4,12,2}.
+ * Results are written as JSON to {@code build/reports/jmh/results.json} for tracking regressions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PostgresDataFlowStoreBenchmark {
+
+    private static final String POSTGRES_IMAGE = "postgres:18.3";
+
+    @Param({ "10000", "1000000" })
+    private int tableSize;
+
+    @Param({ "16" })
+    private int poolSize;
+
+    private PostgreSQLContainer postgres;
+    private HikariDataSource dataSource;
+    private PostgresDataFlowStore store;
+    private final AtomicLong insertedIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        var config = new HikariConfig();
+        var jdbcUrl = System.getProperty("dataplane.benchmark.jdbcUrl");
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer(POSTGRES_IMAGE)
+                    .withDatabaseName("dataplane")
+                    .withUsername("user")
+                    .withPassword("password");
+            postgres.start();
+            config.setJdbcUrl(postgres.getJdbcUrl());
+            config.setUsername(postgres.getUsername());
+            config.setPassword(postgres.getPassword());
+        } else {
+            config.setJdbcUrl(jdbcUrl);
+            config.setUsername(System.getProperty("dataplane.benchmark.username"));
+            config.setPassword(System.getProperty("dataplane.benchmark.password"));
+        }
+        config.setMaximumPoolSize(poolSize);
+        dataSource = new HikariDataSource(config);
+
+        createAndPopulateTable();
+
+        var objectMapper = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+        store = new PostgresDataFlowStore(objectMapper, dataSource);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public Result<Void> upsert() {
+        return store.save(dataFlow(randomId(), DataFlow.State.STARTED));
+    }
+
+    @Benchmark
+    public Result<Void> insert() {
+        return store.save(dataFlow("inserted-" + insertedIds.incrementAndGet(), DataFlow.State.STARTED));
+    }
+
+    @Benchmark
+    public Result<DataFlow> findById() {
+        return store.findById(randomId());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public Result<Void> mixedSave() {
+        return upsert();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public Result<DataFlow> mixedFind() {
+        return findById();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Result<Void> mixedTransition() {
+        return store.findById(randomId())
+                .compose(dataFlow -> {
+                    if (dataFlow.getState() == DataFlow.State.SUSPENDED) {
+                        dataFlow.transitionToStarted();
+                    } else {
+                        dataFlow.transitionToSuspended("benchmark");
+                    }
+                    return store.save(dataFlow);
+                });
+    }
+
+    private void createAndPopulateTable() throws IOException, SQLException {
+        String schema;
+        try (var stream = Objects.requireNonNull(getClass().getResourceAsStream("/sql/data_flow_schema.sql"))) {
+            schema = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        try (var connection = dataSource.getConnection()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute(schema);
+                statement.execute("TRUNCATE data_flows");
+            }
+
+            var populate = "INSERT INTO data_flows (id, transfer_type, type, state, callback_address, controlplane_id)" +
+                    " SELECT 'flow-' || i, 'HTTP-PUSH', 'PROVIDER', 'STARTED', 'https://callback', 'controlplane'" +
+                    " FROM generate_series(0, ? - 1) AS i";
+            try (var statement = connection.prepareStatement(populate)) {
+                statement.setInt(1, tableSize);
+                statement.executeUpdate();
+            }
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("VACUUM ANALYZE data_flows");
+            }
+        }
+    }
+
+    private String randomId() {
+        return "flow-" + ThreadLocalRandom.current().nextInt(tableSize);
+    }
+
+    private DataFlow dataFlow(String id, DataFlow.State state) {
+        return DataFlow.newInstance()
+                .id(id)
+                .state(state)
+                .transferType("HTTP-PUSH")
+                .datasetId("dataset")
+                .agreementId("agreement")
+                .participantId("participant")
+                .counterPartyId("counterParty")
+                .dataspaceContext("dataspaceContext")
+                .callbackAddress(URI.create("https://callback"))
+                .labels(List.of("label"))
+                .metadata(Map.of("key", "value"))
+                .dataAddress(new DataAddress("http", "https://endpoint", List.of()))
+                .controlplaneId("controlplane")
+                .type(DataFlow.Type.PROVIDER)
+                .build();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.scheduler.postgresql;
+
+import org.eclipse.dataplane.port.exception.PersistenceException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+
+import static java.lang.String.format;
+
+/**
+ * Runs {@link ScheduledJob}s on exactly one replica of a clustered dataplane. Every replica schedules the
+ * same jobs, but a job is only executed by the replica holding the job's PostgreSQL session-level advisory
+ * lock, acquired with {@code pg_try_advisory_lock}. The lock holder keeps a dedicated connection open for
+ * as long as it holds the lock. If the holder dies or loses its connection, the database releases the lock
+ * and another replica acquires it on its next attempt, i.e. after at most one job interval.
+ *
+ * <p>Failures of a job are reported to its {@link ScheduledJob#onFailure()} callback.
+ *
+ * <p>Note that fail-over relies on the database detecting the lost session, so a job might run on two
+ * replicas at the same time if the connection of the previous holder breaks while it's running.
+ */
+public class PostgresJobScheduler implements AutoCloseable {
+
+    /**
+     * Prefix of the hashed job names, separating the advisory locks of the scheduler from other advisory locks
+     * used in the same database.
+     */
+    private static final String LOCK_NAMESPACE = "dataplane-job:";
+
+    private final DataSource dataSource;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Map<String, JobLock> locks = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> schedules = new ConcurrentHashMap<>();
+
+    public PostgresJobScheduler(DataSource dataSource) {
+        this(dataSource, Executors.newSingleThreadScheduledExecutor(), true);
+    }
+
+    /**
+     * Creates a scheduler running the jobs on the given executor, which is not shut down by {@link #close()}.
+     *
+     * @param dataSource the data source
+     * @param executor the executor
+     */
+    public PostgresJobScheduler(DataSource dataSource, ScheduledExecutorService executor) {
+        this(dataSource, executor, false);
+    }
+
+    private PostgresJobScheduler(DataSource dataSource, ScheduledExecutorService executor, boolean ownsExecutor) {
+        this.dataSource = dataSource;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Schedules the job. The first attempt to run it happens immediately.
+     *
+     * @param job the job
+     */
+    public void schedule(ScheduledJob job) {
+        var lock = new JobLock(job.name());
+        if (locks.putIfAbsent(job.name(), lock) != null) {
+            throw new IllegalArgumentException(format("Job %s is already scheduled", job.name()));
+        }
+
+        schedules.put(job.name(), executor.scheduleWithFixedDelay(() -> run(job, lock), 0, job.interval().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Checks whether this scheduler currently holds the lock of a job, i.e. whether this replica runs it.
+     *
+     * @param jobName the name of the job
+     * @return true, if this scheduler holds the lock of the job
+     */
+    public boolean isRunner(String jobName) {
+        var lock = locks.get(jobName);
+        return lock != null && lock.isHeld();
+    }
+
+    /**
+     * Stops all jobs and releases the locks held by this scheduler, so that other replicas take over. The executor
+     * is only shut down if it has been created by the scheduler. A running job is interrupted, and its lock is only
+     * released once the run has finished, so that no other replica runs the job at the same time.
+     */
+    @Override
+    public void close() {
+        schedules.values().forEach(schedule -> schedule.cancel(true));
+        if (ownsExecutor) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        locks.values().forEach(JobLock::release);
+    }
+
+    private void run(ScheduledJob job, JobLock lock) {
+        try {
+            lock.runIfAcquired(job.task());
+        } catch (Exception e) {
+            // catch everything, otherwise the executor stops scheduling the job
+            try {
+                job.onFailure().accept(e);
+            } catch (RuntimeException ignored) {
+                // a failing callback must not stop the job either
+            }
+        }
+    }
+
+    /**
+     * Derives the 64-bit advisory lock key of a job from the SHA-256 hash of its name, so that different job names
+     * practically never share a lock.
+     */
+    static long lockKey(String jobName) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest((LOCK_NAMESPACE + jobName).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The advisory lock of a single job together with the connection holding it. Runs of the job and the release of
+     * the lock are mutually exclusive, so the lock is never released while the job is running.
+     */
+    private class JobLock {
+
+        private final long key;
+        private final ReentrantLock running = new ReentrantLock();
+        private volatile Connection connection;
+        private boolean released;
+
+        JobLock(String jobName) {
+            this.key = lockKey(jobName);
+        }
+
+        boolean isHeld() {
+            return connection != null;
+        }
+
+        void runIfAcquired(Runnable task) {
+            running.lock();
+            try {
+                if (!released && tryAcquire()) {
+                    task.run();
+                }
+            } finally {
+                running.unlock();
+            }
+        }
+
+        private boolean tryAcquire() {
+            if (connection != null) {
+                if (isValid(connection)) {
+                    return true;
+                }
+                closeQuietly(connection);
+                connection = null;
+            }
+
+            Connection candidate;
+            try {
+                candidate = dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new PersistenceException("Failed to connect to database.", e);
+            }
+
+            try (var statement = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, key);
+                var resultSet = statement.executeQuery();
+                if (resultSet.next() && resultSet.getBoolean(1)) {
+                    connection = candidate;
+                    return true;
+                }
+            } catch (SQLException e) {
+                closeQuietly(candidate);
+                throw new PersistenceException("Failed to acquire advisory lock.", e);
+            }
+
+            closeQuietly(candidate);
+            return false;
+        }
+
+        void release() {
+            running.lock();
+            try {
+                released = true;
+                var current = connection;
+                connection = null;
+                if (current == null) {
+                    return;
+                }
+
+                try (var statement = current.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+                    statement.setLong(1, key);
+                    statement.execute();
+                } catch (SQLException e) {
+                    // the lock is released with the session anyway
+                } finally {
+                    closeQuietly(current);
+                }
+            } finally {
+                running.unlock();
+            }
+        }
+
+        private boolean isValid(Connection connection) {
+            try {
+                return connection.isValid(5);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private void closeQuietly(Connection connection) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // nothing to do, the connection is discarded
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.scheduler.postgresql;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A periodic background job, e.g. for expiring stuck data flows or archiving terminated ones.
+ *
+ * @param name unique name of the job, used to derive the lock shared by all replicas
+ * @param interval the delay between the end of one run and the start of the next
+ * @param task the work to perform
+ * @param onFailure called with the exception of a failed run or lock acquisition, the job keeps being scheduled
+ */
+public record ScheduledJob(String name, Duration interval, Runnable task, Consumer<Exception> onFailure) {
+
+    public ScheduledJob {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(interval);
+        Objects.requireNonNull(task);
+        Objects.requireNonNull(onFailure);
+    }
+
+    public ScheduledJob(String name, Duration interval, Runnable task) {
+        this(name, interval, task, e -> { });
+    }
+}
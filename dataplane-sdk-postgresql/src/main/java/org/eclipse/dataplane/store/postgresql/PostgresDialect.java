@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.postgresql;
+
+import org.eclipse.dataplane.store.sql.SqlDialect;
+
+/**
+ * {@link SqlDialect} for PostgreSQL. The update marker of a data flow is the id of the transaction that saved it,
+ * and the change feed only returns markers below the oldest transaction still in flight, so that no commit can
+ * land behind the watermark of a consumer. A long-running transaction therefore delays, but never hides changes.
+ * Requires PostgreSQL 13 or later.
+ */
+public class PostgresDialect implements SqlDialect {
+
+    @Override
+    public String jsonParameter() {
+        return "?::json";
+    }
+
+    @Override
+    public String nextUpdateMarker(String table, String column) {
+        return "pg_current_xact_id()::text::bigint";
+    }
+
+    @Override
+    public String stableUpdateMarkerCondition(String column) {
+        return "%s < pg_snapshot_xmin(pg_current_snapshot())::text::bigint".formatted(column);
+    }
+}
@@ -30,9 +30,24 @@ CREATE TABLE IF NOT EXISTS data_flows
     labels                  JSON,
     metadata                JSON,
     data_address            JSON,
-    controlplane_id         VARCHAR
+    controlplane_id         VARCHAR,
+    updated_at              BIGINT      NOT NULL DEFAULT 0
 );
 
+-- added after the initial version of the table
+ALTER TABLE data_flows ADD COLUMN IF NOT EXISTS updated_at BIGINT NOT NULL DEFAULT 0;
+
+-- gives rows written before updated_at existed distinct negative markers, so that the change feed returns them
+UPDATE data_flows d
+SET updated_at = m.updated_at
+FROM (SELECT id, LEAST(0, (SELECT MIN(updated_at) FROM data_flows)) - ROW_NUMBER() OVER (ORDER BY id) AS updated_at
+      FROM data_flows
+      WHERE updated_at = 0) m
+WHERE d.id = m.id;
+
+CREATE INDEX IF NOT EXISTS data_flows_updated_at_idx ON data_flows (updated_at);
+
 COMMENT ON COLUMN data_flows.labels IS 'List of labels serialized as JSON';
 COMMENT ON COLUMN data_flows.metadata IS 'Metadata serialized as JSON';
 COMMENT ON COLUMN data_flows.data_address IS 'Data address serialized as JSON';
+COMMENT ON COLUMN data_flows.updated_at IS 'Id of the transaction that saved the row, used as update marker for the change feed';
@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.scheduler.postgresql;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Testcontainers
+class PostgresJobSchedulerTest {
+
+    private static final String POSTGRES_IMAGE = "postgres:18.3";
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer(POSTGRES_IMAGE)
+            .withDatabaseName("dataplane")
+            .withUsername("user")
+            .withPassword("password");
+
+    @BeforeAll
+    static void init() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        postgres.stop();
+        postgres.close();
+    }
+
+    @Test
+    void shouldRunJobOnSingleReplica_andFailOverWhenRunnerStops() {
+        var firstRuns = new AtomicInteger();
+        var secondRuns = new AtomicInteger();
+        var first = new PostgresJobScheduler(dataSource());
+        var second = new PostgresJobScheduler(dataSource());
+
+        first.schedule(new ScheduledJob("job", Duration.ofMillis(50), firstRuns::incrementAndGet));
+        await().atMost(5, SECONDS).until(() -> firstRuns.get() > 3);
+        second.schedule(new ScheduledJob("job", Duration.ofMillis(50), secondRuns::incrementAndGet));
+
+        await().during(500, MILLISECONDS).atMost(2, SECONDS)
+                .until(() -> secondRuns.get() == 0);
+        assertThat(first.isRunner("job")).isTrue();
+        assertThat(second.isRunner("job")).isFalse();
+
+        first.close();
+
+        await().atMost(5, SECONDS).until(() -> secondRuns.get() > 0);
+        assertThat(second.isRunner("job")).isTrue();
+        second.close();
+    }
+
+    @Test
+    void shouldRunDifferentJobsIndependently() {
+        var runs = new AtomicInteger();
+        var otherRuns = new AtomicInteger();
+        var first = new PostgresJobScheduler(dataSource());
+        var second = new PostgresJobScheduler(dataSource());
+
+        first.schedule(new ScheduledJob("one", Duration.ofMillis(50), runs::incrementAndGet));
+        second.schedule(new ScheduledJob("other", Duration.ofMillis(50), otherRuns::incrementAndGet));
+
+        await().atMost(5, SECONDS).until(() -> runs.get() > 0 && otherRuns.get() > 0);
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void shouldRunJobsIndependently_whenNameHashCodesCollide() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        var runs = new AtomicInteger();
+        var otherRuns = new AtomicInteger();
+        var first = new PostgresJobScheduler(dataSource());
+        var second = new PostgresJobScheduler(dataSource());
+
+        first.schedule(new ScheduledJob("Aa", Duration.ofMillis(50), runs::incrementAndGet));
+        second.schedule(new ScheduledJob("BB", Duration.ofMillis(50), otherRuns::incrementAndGet));
+
+        await().atMost(5, SECONDS).until(() -> runs.get() > 0 && otherRuns.get() > 0);
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void shouldReportFailures_andKeepScheduling() {
+        var failures = new AtomicInteger();
+        var scheduler = new PostgresJobScheduler(dataSource());
+
+        scheduler.schedule(new ScheduledJob("failing", Duration.ofMillis(50), () -> {
+            throw new IllegalStateException("failed");
+        }, e -> failures.incrementAndGet()));
+
+        await().atMost(5, SECONDS).until(() -> failures.get() > 2);
+        scheduler.close();
+    }
+
+    @Test
+    void close_shouldNotShutDownProvidedExecutor() {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var runs = new AtomicInteger();
+        var scheduler = new PostgresJobScheduler(dataSource(), executor);
+        scheduler.schedule(new ScheduledJob("provided", Duration.ofMillis(50), runs::incrementAndGet));
+        await().atMost(5, SECONDS).until(() -> runs.get() > 0);
+
+        scheduler.close();
+
+        assertThat(executor.isShutdown()).isFalse();
+        assertThat(scheduler.isRunner("provided")).isFalse();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void close_shouldReleaseLockOnlyAfterRunningJobFinished_whenExecutorIsProvided() {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var started = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var otherRuns = new AtomicInteger();
+        var scheduler = new PostgresJobScheduler(dataSource(), executor);
+        var other = new PostgresJobScheduler(dataSource());
+        scheduler.schedule(new ScheduledJob("running", Duration.ofMillis(50), () -> {
+            started.countDown();
+            while (finish.getCount() > 0) {
+                try {
+                    finish.await();
+                } catch (InterruptedException e) {
+                    // keep running like a job that doesn't react to interrupts
+                }
+            }
+        }));
+        await().atMost(5, SECONDS).until(() -> started.getCount() == 0);
+
+        var closed = CompletableFuture.runAsync(scheduler::close);
+        other.schedule(new ScheduledJob("running", Duration.ofMillis(50), otherRuns::incrementAndGet));
+
+        await().during(500, MILLISECONDS).atMost(2, SECONDS)
+                .until(() -> !closed.isDone() && otherRuns.get() == 0);
+        finish.countDown();
+        await().atMost(5, SECONDS).until(closed::isDone);
+        await().atMost(5, SECONDS).until(() -> otherRuns.get() > 0);
+        other.close();
+        executor.shutdownNow();
+    }
+
+    private PGSimpleDataSource dataSource() {
+        var dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        return dataSource;
+    }
+}
@@ -9,23 +9,35 @@
  *
  *  Contributors:
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - change feed
  *
  */
 
 package org.eclipse.dataplane.store.postgresql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
 import org.eclipse.dataplane.port.store.DataFlowStore;
 import org.eclipse.dataplane.store.DataFlowStoreTestBase;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.postgresql.PostgreSQLContainer;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Objects;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @Testcontainers
 class PostgresDataFlowStoreTest extends DataFlowStoreTestBase {
@@ -36,6 +48,7 @@ class PostgresDataFlowStoreTest extends DataFlowStoreTestBase {
     private static final String PASSWORD = "password";
 
     private final ObjectMapper mapper = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private PGSimpleDataSource dataSource;
     private PostgresDataFlowStore store;
 
     @Container
@@ -58,7 +71,7 @@ class PostgresDataFlowStoreTest extends DataFlowStoreTestBase {
 
     @BeforeEach
     void initStore() {
-        var dataSource = new PGSimpleDataSource();
+        dataSource = new PGSimpleDataSource();
         dataSource.setUrl(postgres.getJdbcUrl());
         dataSource.setUser(postgres.getUsername());
         dataSource.setPassword(postgres.getPassword());
@@ -69,4 +82,61 @@ class PostgresDataFlowStoreTest extends DataFlowStoreTestBase {
     protected DataFlowStore store() {
         return store;
     }
+
+    @Test
+    void findChangedSince_shouldNotSkipChange_whenCommittedAfterHigherMarker() throws SQLException {
+        var watermark = store.findChangedSince(0, Integer.MAX_VALUE).getContent().watermark();
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (var statement = connection.createStatement()) {
+                statement.execute("INSERT INTO data_flows (id, type, state, callback_address, updated_at) "
+                        + "VALUES ('slow', 'PROVIDER', 'STARTED', 'https://callback', pg_current_xact_id()::text::bigint)");
+            }
+
+            store.save(dataFlow("fast"));
+
+            var whileInFlight = store.findChangedSince(watermark, 10).getContent();
+            assertThat(whileInFlight.dataFlows()).isEmpty();
+            assertThat(whileInFlight.watermark()).isEqualTo(watermark);
+
+            connection.commit();
+        }
+
+        var changes = store.findChangedSince(watermark, 10).getContent();
+        assertThat(changes.dataFlows()).extracting(DataFlow::getId).containsExactly("slow", "fast");
+    }
+
+    @Test
+    void schema_shouldBackfillUpdateMarkers_ofRowsWrittenBeforeChangeFeed() throws SQLException, IOException {
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("INSERT INTO data_flows (id, type, state, callback_address, updated_at) VALUES ('legacy1', 'PROVIDER', 'STARTED', 'https://callback', 0)");
+            statement.execute("INSERT INTO data_flows (id, type, state, callback_address, updated_at) VALUES ('legacy2', 'PROVIDER', 'STARTED', 'https://callback', 0)");
+            try (var schema = Objects.requireNonNull(getClass().getResourceAsStream("/sql/data_flow_schema.sql"))) {
+                statement.execute(new String(schema.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        var dataFlows = new ArrayList<DataFlow>();
+        var watermark = 0L;
+        DataFlowChanges changes;
+        do {
+            changes = store.findChangedSince(watermark, 1).getContent();
+            dataFlows.addAll(changes.dataFlows());
+            watermark = changes.watermark();
+        } while (!changes.dataFlows().isEmpty());
+
+        assertThat(dataFlows).extracting(DataFlow::getId).contains("legacy1", "legacy2");
+        assertThat(dataFlows).extracting(DataFlow::getUpdatedAt).doesNotHaveDuplicates();
+    }
+
+    private DataFlow dataFlow(String id) {
+        return DataFlow.newInstance()
+                .id(id)
+                .state(DataFlow.State.STARTED)
+                .transferType("HTTP-PUSH")
+                .callbackAddress(URI.create("https://callback"))
+                .type(DataFlow.Type.PROVIDER)
+                .build();
+    }
 }
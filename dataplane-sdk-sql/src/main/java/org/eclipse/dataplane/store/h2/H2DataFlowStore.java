@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.h2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.store.sql.SqlDataFlowStore;
+
+import javax.sql.DataSource;
+
+/**
+ * H2-based {@link org.eclipse.dataplane.port.store.DataFlowStore} for embedded, in-process storage.
+ *
+ * <p>H2 hands out sequence values outside of transactions, so saves are serialized to commit the update markers
+ * of the change feed in order. This requires auto-commit connections and a database that is only written by this
+ * store instance.
+ */
+public class H2DataFlowStore extends SqlDataFlowStore {
+
+    public H2DataFlowStore(ObjectMapper objectMapper, DataSource dataSource) {
+        super(objectMapper, dataSource, new H2Dialect());
+    }
+
+    @Override
+    public synchronized Result<Void> save(DataFlow dataFlow) {
+        return super.save(dataFlow);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.h2;
+
+import org.eclipse.dataplane.store.sql.SqlDialect;
+
+import java.util.Map;
+
+/**
+ * {@link SqlDialect} for the embedded H2 database. JSON values are stored as plain character data and
+ * upserts use H2's {@code MERGE INTO ... KEY} syntax.
+ */
+public class H2Dialect implements SqlDialect {
+
+    @Override
+    public String jsonParameter() {
+        return "?";
+    }
+
+    @Override
+    public String upsertTemplate(String table, String keyColumn, Map<String, String> values) {
+        return "MERGE INTO %s (%s) KEY (%s) VALUES (%s)".formatted(
+                table, String.join(", ", values.keySet()), keyColumn, String.join(", ", values.values()));
+    }
+}
@@ -12,7 +12,7 @@
  *
  */
 
-package org.eclipse.dataplane.store.postgresql;
+package org.eclipse.dataplane.store.sql;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -25,17 +25,19 @@ import javax.sql.DataSource;
 
 /**
  * Base class for SQL-based store implementations that provides methods for common functionality
- * like connection handling and JSON parsing.
+ * like connection handling and JSON parsing. Database-specific syntax is provided by a {@link SqlDialect}.
  */
 public abstract class AbstractSqlStore {
 
     protected ObjectMapper objectMapper;
+    protected final SqlDialect dialect;
 
     private final DataSource dataSource;
 
-    public AbstractSqlStore(ObjectMapper objectMapper, DataSource dataSource) {
+    public AbstractSqlStore(ObjectMapper objectMapper, DataSource dataSource, SqlDialect dialect) {
         this.objectMapper = objectMapper;
         this.dataSource = dataSource;
+        this.dialect = dialect;
     }
 
     protected Connection getConnection() {
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.sql;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.domain.DataAddress;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlow;
+import org.eclipse.dataplane.domain.dataflow.DataFlowChanges;
+import org.eclipse.dataplane.port.exception.PersistenceException;
+import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
+import org.eclipse.dataplane.port.store.DataFlowStore;
+
+import java.net.URI;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static java.lang.String.format;
+
+/**
+ * SQL-based {@link DataFlowStore}, using a {@link SqlDialect} for database-specific syntax.
+ */
+public class SqlDataFlowStore extends AbstractSqlStore implements DataFlowStore {
+
+    private final String upsertDataFlowTemplate;
+    private final String findDataFlowsChangedSinceTemplate;
+
+    public SqlDataFlowStore(ObjectMapper objectMapper, DataSource dataSource, SqlDialect dialect) {
+        super(objectMapper, dataSource, dialect);
+        this.upsertDataFlowTemplate = upsertDataFlowTemplate();
+        this.findDataFlowsChangedSinceTemplate = findDataFlowsChangedSinceTemplate();
+    }
+
+    @Override
+    public Result<Void> save(DataFlow dataFlow) {
+        var connection = getConnection();
+
+        try (var statement = connection.prepareStatement(upsertDataFlowTemplate)) {
+            statement.setString(1, dataFlow.getId());
+            statement.setString(2, dataFlow.getTransferType());
+            statement.setString(3, dataFlow.getType().name());
+            statement.setString(4, dataFlow.getState().name());
+            statement.setString(5, dataFlow.getDatasetId());
+            statement.setString(6, dataFlow.getAgreementId());
+            statement.setString(7, dataFlow.getParticipantId());
+            statement.setString(8, dataFlow.getCounterPartyId());
+            statement.setString(9, dataFlow.getDataspaceContext());
+            statement.setString(10, dataFlow.getCallbackAddress().toString());
+            statement.setString(11, dataFlow.getSuspensionReason());
+            statement.setString(12, dataFlow.getTerminationReason());
+            statement.setString(13, toJson(dataFlow.getLabels()));
+            statement.setString(14, toJson(dataFlow.getMetadata()));
+            statement.setString(15, toJson(dataFlow.getDataAddress()));
+            statement.setString(16, dataFlow.getControlplaneId());
+
+            statement.executeUpdate();
+            return Result.success();
+        } catch (Exception e) {
+            return Result.failure(new PersistenceException(format("Failed to persist DataFlow with id %s.", dataFlow.getId()), e));
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    @Override
+    public Result<DataFlow> findById(String flowId) {
+        var connection = getConnection();
+
+        try (var statement = connection.prepareStatement(findDataFlowByIdTemplate())) {
+            statement.setString(1, flowId);
+            var resultSet = statement.executeQuery();
+
+            if (!resultSet.next()) {
+                return Result.failure(new ResourceNotFoundException(format("DataFlow with id %s not found.", flowId)));
+            }
+
+            return Result.success(toDataFlow(resultSet));
+        } catch (Exception e) {
+            return Result.failure(new PersistenceException(format("Failed to read DataFlow with id %s.", flowId), e));
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    @Override
+    public Result<DataFlowChanges> findChangedSince(long watermark, int limit) {
+        var connection = getConnection();
+
+        try (var statement = connection.prepareStatement(findDataFlowsChangedSinceTemplate)) {
+            // rows written before the update marker existed hold negative markers, which a watermark of 0 includes
+            statement.setLong(1, watermark == 0 ? Long.MIN_VALUE : watermark);
+            statement.setInt(2, limit);
+            var resultSet = statement.executeQuery();
+
+            var dataFlows = new ArrayList<DataFlow>();
+            var nextWatermark = watermark;
+            while (resultSet.next()) {
+                var dataFlow = toDataFlow(resultSet);
+                dataFlows.add(dataFlow);
+                nextWatermark = dataFlow.getUpdatedAt();
+            }
+
+            return Result.success(new DataFlowChanges(dataFlows, nextWatermark));
+        } catch (Exception e) {
+            return Result.failure(new PersistenceException(format("Failed to read DataFlows changed since %s.", watermark), e));
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    @Override
+    public Result<List<DataFlow>> findNonTerminal(String afterId, int limit) {
+        var connection = getConnection();
+
+        try (var statement = connection.prepareStatement(findNonTerminalDataFlowsTemplate())) {
+            statement.setString(1, afterId);
+            statement.setInt(2, limit);
+            var resultSet = statement.executeQuery();
+
+            var dataFlows = new ArrayList<DataFlow>();
+            while (resultSet.next()) {
+                dataFlows.add(toDataFlow(resultSet));
+            }
+
+            return Result.success(dataFlows);
+        } catch (Exception e) {
+            return Result.failure(new PersistenceException(format("Failed to read non-terminal DataFlows after id %s.", afterId), e));
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    @Override
+    public Result<Map<DataFlow.State, Long>> countByState() {
+        var connection = getConnection();
+
+        try (var statement = connection.prepareStatement(countDataFlowsByStateTemplate())) {
+            var resultSet = statement.executeQuery();
+
+            var counts = new EnumMap<DataFlow.State, Long>(DataFlow.State.class);
+            while (resultSet.next()) {
+                counts.put(DataFlow.State.valueOf(resultSet.getString("state")), resultSet.getLong("count"));
+            }
+
+            return Result.success(counts);
+        } catch (Exception e) {
+            return Result.failure(new PersistenceException("Failed to count DataFlows by state.", e));
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private DataFlow toDataFlow(ResultSet resultSet) throws SQLException {
+        return DataFlow.newInstance()
+                .id(resultSet.getString("id"))
+                .state(DataFlow.State.valueOf(resultSet.getString("state")))
+                .transferType(resultSet.getString("transfer_type"))
+                .datasetId(resultSet.getString("dataset_id"))
+                .agreementId(resultSet.getString("agreement_id"))
+                .participantId(resultSet.getString("participant_id"))
+                .counterPartyId(resultSet.getString("counter_party_id"))
+                .dataspaceContext(resultSet.getString("dataspace_context"))
+                .callbackAddress(URI.create(resultSet.getString("callback_address")))
+                .suspensionReason(resultSet.getString("suspension_reason"))
+                .terminationReason(resultSet.getString("termination_reason"))
+                .labels(fromJson(resultSet.getString("labels"), new TypeReference<>() {}))
+                .metadata(fromJson(resultSet.getString("metadata"), new TypeReference<>() {}))
+                .dataAddress(fromJson(resultSet.getString("data_address"), DataAddress.class))
+                .controlplaneId(resultSet.getString("controlplane_id"))
+                .type(DataFlow.Type.valueOf(resultSet.getString("type")))
+                .updatedAt(resultSet.getLong("updated_at"))
+                .build();
+    }
+
+    private String upsertDataFlowTemplate() {
+        var values = new LinkedHashMap<String, String>();
+        values.put("id", "?");
+        values.put("transfer_type", "?");
+        values.put("type", "?");
+        values.put("state", "?");
+        values.put("dataset_id", "?");
+        values.put("agreement_id", "?");
+        values.put("participant_id", "?");
+        values.put("counter_party_id", "?");
+        values.put("dataspace_context", "?");
+        values.put("callback_address", "?");
+        values.put("suspension_reason", "?");
+        values.put("termination_reason", "?");
+        values.put("labels", dialect.jsonParameter());
+        values.put("metadata", dialect.jsonParameter());
+        values.put("data_address", dialect.jsonParameter());
+        values.put("controlplane_id", "?");
+        values.put("updated_at", dialect.nextUpdateMarker("data_flows", "updated_at"));
+        return dialect.upsertTemplate("data_flows", "id", values);
+    }
+
+    private String findDataFlowByIdTemplate() {
+        return "SELECT * FROM data_flows WHERE id = ?";
+    }
+
+    private String findDataFlowsChangedSinceTemplate() {
+        var stable = dialect.stableUpdateMarkerCondition("updated_at");
+        var condition = stable == null ? "updated_at > ?" : "updated_at > ? AND " + stable;
+        return "SELECT * FROM data_flows WHERE %s ORDER BY updated_at LIMIT ?".formatted(condition);
+    }
+
+    private String findNonTerminalDataFlowsTemplate() {
+        return "SELECT * FROM data_flows WHERE state NOT IN ('COMPLETED', 'TERMINATED') AND id > ? ORDER BY id LIMIT ?";
+    }
+
+    private String countDataFlowsByStateTemplate() {
+        return "SELECT state, COUNT(*) AS count FROM data_flows GROUP BY state";
+    }
+}
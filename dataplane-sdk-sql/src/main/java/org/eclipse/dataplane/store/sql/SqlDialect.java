@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.sql;
+
+import java.util.Map;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Encapsulates the database-specific parts of the SQL statements used by the SQL-based stores, so that
+ * the same store implementation can be used with different databases.
+ */
+public interface SqlDialect {
+
+    /**
+     * Returns the parameter placeholder to use for a column holding JSON, e.g. including a cast to the
+     * database's JSON type.
+     *
+     * @return the JSON parameter placeholder
+     */
+    String jsonParameter();
+
+    /**
+     * Returns an expression that evaluates to the next update marker of the given table, i.e. a value that is
+     * greater than any marker assigned before. The default implementation uses the SQL standard
+     * {@code NEXT VALUE FOR} syntax on a sequence named {@code <table>_<column>_seq}.
+     *
+     * @param table the table name
+     * @param column the column holding the update marker
+     * @return the expression for the next update marker
+     */
+    default String nextUpdateMarker(String table, String column) {
+        return "NEXT VALUE FOR %s_%s_seq".formatted(table, column);
+    }
+
+    /**
+     * Returns a condition restricting the change feed to update markers that can no longer be undercut by a
+     * transaction still in flight. Markers are assigned before the saving transaction commits, so a transaction
+     * holding a lower marker may commit after one holding a higher marker, which a consumer that already moved
+     * its watermark past the higher marker would miss. The default implementation returns null, i.e. no
+     * restriction, which is only safe if markers are assigned in commit order, e.g. because writes are serialized.
+     *
+     * @param column the column holding the update marker
+     * @return the condition, or null
+     */
+    default String stableUpdateMarkerCondition(String column) {
+        return null;
+    }
+
+    /**
+     * Creates an insert-or-update statement for the given table. The default implementation uses the
+     * {@code INSERT ... ON CONFLICT ... DO UPDATE} syntax.
+     *
+     * @param table the table name
+     * @param keyColumn the primary key column, used for conflict detection
+     * @param values the columns mapped to their value expressions, in the order of the statement parameters
+     * @return the upsert statement
+     */
+    default String upsertTemplate(String table, String keyColumn, Map<String, String> values) {
+        var updates = values.keySet().stream()
+                .filter(column -> !column.equals(keyColumn))
+                .map(column -> column + " = EXCLUDED." + column)
+                .collect(joining(", "));
+
+        return "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s".formatted(
+                table, String.join(", ", values.keySet()), String.join(", ", values.values()), keyColumn, updates);
+    }
+}
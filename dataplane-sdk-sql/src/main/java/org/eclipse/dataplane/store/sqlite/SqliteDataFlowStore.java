@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.sqlite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.store.sql.SqlDataFlowStore;
+
+import javax.sql.DataSource;
+
+/**
+ * SQLite-based {@link org.eclipse.dataplane.port.store.DataFlowStore} for embedded, in-process storage.
+ */
+public class SqliteDataFlowStore extends SqlDataFlowStore {
+
+    public SqliteDataFlowStore(ObjectMapper objectMapper, DataSource dataSource) {
+        super(objectMapper, dataSource, new SqliteDialect());
+    }
+}
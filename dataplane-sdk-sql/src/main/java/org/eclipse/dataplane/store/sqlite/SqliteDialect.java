@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.sqlite;
+
+import org.eclipse.dataplane.store.sql.SqlDialect;
+
+/**
+ * {@link SqlDialect} for the embedded SQLite database. JSON values are stored as {@code TEXT}, upserts use
+ * the {@code ON CONFLICT} syntax supported since SQLite 3.24. As SQLite has no sequences, update markers are
+ * derived from the current maximum, which is safe since SQLite serializes all writes.
+ */
+public class SqliteDialect implements SqlDialect {
+
+    @Override
+    public String jsonParameter() {
+        return "?";
+    }
+
+    @Override
+    public String nextUpdateMarker(String table, String column) {
+        return "(SELECT COALESCE(MAX(%2$s), 0) + 1 FROM %1$s)".formatted(table, column);
+    }
+}
@@ -0,0 +1,38 @@
+--
+--  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial script
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR SQLITE
+-- labels, metadata and data_address hold JSON, updated_at holds the update marker used for the change feed
+
+CREATE TABLE IF NOT EXISTS data_flows
+(
+    id                      TEXT        PRIMARY KEY,
+    transfer_type           TEXT,
+    type                    TEXT,
+    state                   TEXT        NOT NULL,
+    dataset_id              TEXT,
+    agreement_id            TEXT,
+    participant_id          TEXT,
+    counter_party_id        TEXT,
+    dataspace_context       TEXT,
+    callback_address        TEXT,
+    suspension_reason       TEXT,
+    termination_reason      TEXT,
+    labels                  TEXT,
+    metadata                TEXT,
+    data_address            TEXT,
+    controlplane_id         TEXT,
+    updated_at              INTEGER     NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS data_flows_updated_at_idx ON data_flows (updated_at);
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.h2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.port.store.ControlPlaneStore;
+import org.eclipse.dataplane.store.ControlPlaneStoreTestBase;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.sql.SQLException;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+class H2ControlPlaneStoreTest extends ControlPlaneStoreTestBase {
+
+    private static final JdbcDataSource DATA_SOURCE = new JdbcDataSource();
+
+    private final ObjectMapper mapper = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private H2ControlPlaneStore store;
+
+    @BeforeAll
+    static void init() throws SQLException {
+        DATA_SOURCE.setURL("jdbc:h2:mem:control_planes;DB_CLOSE_DELAY=-1");
+        try (var connection = DATA_SOURCE.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:sql/h2/control_plane_schema.sql'");
+        }
+    }
+
+    @BeforeEach
+    void initStore() {
+        store = new H2ControlPlaneStore(mapper, DATA_SOURCE);
+    }
+
+    @Override
+    protected ControlPlaneStore store() {
+        return store;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.store.sqlite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataplane.port.store.ControlPlaneStore;
+import org.eclipse.dataplane.store.ControlPlaneStoreTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+class SqliteControlPlaneStoreTest extends ControlPlaneStoreTestBase {
+
+    private static final SQLiteDataSource DATA_SOURCE = new SQLiteDataSource();
+
+    @TempDir
+    static Path databaseDirectory;
+
+    private final ObjectMapper mapper = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private SqliteControlPlaneStore store;
+
+    @BeforeAll
+    static void init() throws IOException, SQLException {
+        DATA_SOURCE.setUrl("jdbc:sqlite:" + databaseDirectory.resolve("dataplane.db"));
+
+        try (var schema = Objects.requireNonNull(SqliteControlPlaneStoreTest.class.getResourceAsStream("/sql/sqlite/control_plane_schema.sql"));
+             var connection = DATA_SOURCE.getConnection();
+             var statement = connection.createStatement()) {
+            for (var sql : new String(schema.readAllBytes(), StandardCharsets.UTF_8).split(";")) {
+                if (!sql.isBlank()) {
+                    statement.executeUpdate(sql);
+                }
+            }
+        }
+    }
+
+    @BeforeEach
+    void initStore() {
+        store = new SqliteControlPlaneStore(mapper, DATA_SOURCE);
+    }
+
+    @Override
+    protected ControlPlaneStore store() {
+        return store;
+    }
+}
@@ -10,6 +10,11 @@
  *  Contributors:
  *       Think-it GmbH - initial API and implementation
  *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - introduce DataFlowStatusMessage
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - background callback delivery
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - authorization routing
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - deduplication before admission
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - state timeouts
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - state change events
  *
  */
 
@@ -18,10 +23,20 @@ package org.eclipse.dataplane;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import org.eclipse.dataplane.domain.Result;
 import org.eclipse.dataplane.domain.dataflow.DataFlowPrepareMessage;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStartMessage;
+import org.eclipse.dataplane.domain.dataflow.DataFlowStateChanged;
+import org.eclipse.dataplane.domain.dataflow.DataFlowTerminateMessage;
+import org.eclipse.dataplane.domain.registration.Authorization;
+import org.eclipse.dataplane.domain.registration.AuthorizationProfile;
 import org.eclipse.dataplane.domain.registration.ControlPlaneRegistrationMessage;
+import org.eclipse.dataplane.logic.AdmissionControl;
+import org.eclipse.dataplane.port.callback.CallbackDispatcher;
 import org.eclipse.dataplane.port.exception.DataFlowNotifyControlPlaneFailed;
 import org.eclipse.dataplane.port.exception.DataplaneNotRegistered;
+import org.eclipse.dataplane.port.exception.IllegalStateTransition;
 import org.eclipse.dataplane.port.exception.ResourceNotFoundException;
+import org.eclipse.dataplane.port.exception.TooManyRequests;
+import org.eclipse.dataplane.port.exception.UnauthorizedException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +44,12 @@ import org.junit.jupiter.api.Test;
 
 import java.net.ConnectException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.absent;
@@ -44,8 +65,12 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.COMPLETED;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.PREPARED;
+import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.PREPARING;
 import static org.eclipse.dataplane.domain.dataflow.DataFlow.State.TERMINATED;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 class DataplaneTest {
 
@@ -61,6 +86,109 @@ class DataplaneTest {
         controlPlane.stop();
     }
 
+    @Nested
+    class Prepare {
+
+        @Test
+        void shouldReturnPreviousResponseWithoutCallingHandler_whenMessageIsRetried() {
+            var invocations = new AtomicInteger();
+            var dataplane = Dataplane.newInstance()
+                    .onPrepare(dataFlow -> {
+                        invocations.incrementAndGet();
+                        return Result.success(dataFlow);
+                    })
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+            var first = dataplane.prepare("controlplaneId", createPrepareMessage());
+
+            var retried = dataplane.prepare("controlplaneId", createPrepareMessage());
+
+            assertThat(retried.succeeded()).isTrue();
+            assertThat(retried.getContent()).isEqualTo(first.getContent());
+            assertThat(invocations).hasValue(1);
+        }
+
+        @Test
+        void shouldAnswerRetriedMessage_beforeAdmissionControl() {
+            var dataplane = Dataplane.newInstance()
+                    .onPrepare(Result::success)
+                    .admissionControl(AdmissionControl.newInstance().requestsPerSecond(0.001).burst(1).build())
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+            var first = dataplane.prepare("controlplaneId", createPrepareMessage());
+
+            var retried = dataplane.prepare("controlplaneId", createPrepareMessage());
+            var other = dataplane.prepare("controlplaneId", MessageFactory.createPrepareMessage("otherDataFlowId", URI.create(controlPlane.baseUrl()), "Something-PUSH"));
+
+            assertThat(retried.succeeded()).isTrue();
+            assertThat(retried.getContent()).isEqualTo(first.getContent());
+            assertThat(other.failed()).isTrue();
+            assertThatThrownBy(other::orElseThrow).isExactlyInstanceOf(TooManyRequests.class);
+        }
+    }
+
+    @Nested
+    class PrepareAsync {
+
+        @Test
+        void shouldCompleteOnceHandlerCompletes() {
+            var provisioning = new CompletableFuture<Void>();
+            var dataplane = Dataplane.newInstance()
+                    .onPrepareAsync(dataFlow -> provisioning.thenApply(v -> Result.success(dataFlow)))
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+
+            var result = dataplane.prepareAsync("controlplaneId", createPrepareMessage()).toCompletableFuture();
+
+            assertThat(result).isNotDone();
+            provisioning.complete(null);
+            assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                    .satisfies(response -> assertThat(response.getContent().state()).isEqualTo(PREPARED.name()));
+            assertThat(dataplane.status("dataFlowId").getContent().state()).isEqualTo(PREPARED.name());
+        }
+
+        @Test
+        void shouldReturnFailedResult_whenHandlerCompletesExceptionally() {
+            var dataplane = Dataplane.newInstance()
+                    .onPrepareAsync(dataFlow -> CompletableFuture.failedFuture(new IllegalStateException("provisioning failed")))
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+
+            var result = dataplane.prepareAsync("controlplaneId", createPrepareMessage()).toCompletableFuture();
+
+            assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                    .satisfies(response -> assertThatThrownBy(response::orElseThrow).isExactlyInstanceOf(IllegalStateException.class));
+            assertThat(dataplane.status("dataFlowId").failed()).isTrue();
+        }
+    }
+
+    @Nested
+    class Terminate {
+
+        @Test
+        void shouldFailWithoutCallingHandler_whenDataFlowIsCompleted() {
+            controlPlane.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200)));
+            var terminated = new AtomicBoolean();
+            var dataplane = Dataplane.newInstance()
+                    .onPrepare(Result::success)
+                    .onTerminate(dataFlow -> {
+                        terminated.set(true);
+                        return Result.success(dataFlow);
+                    })
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+            dataplane.prepare("controlplaneId", createPrepareMessage());
+            dataplane.notifyCompleted("dataFlowId");
+
+            var result = dataplane.terminate("dataFlowId", new DataFlowTerminateMessage("messageId", "reason"));
+
+            assertThat(result.failed()).isTrue();
+            assertThatThrownBy(result::orElseThrow).isExactlyInstanceOf(IllegalStateTransition.class);
+            assertThat(terminated).isFalse();
+            assertThat(dataplane.status("dataFlowId").getContent().state()).isEqualTo(COMPLETED.name());
+        }
+    }
+
     @Nested
     class NotifyCompleted {
 
@@ -102,6 +230,26 @@ class DataplaneTest {
             assertThat(dataplane.status("dataFlowId").getContent().state()).isNotEqualTo(COMPLETED.name());
         }
 
+        @Test
+        void shouldPersistStateAndReportFailureInBackground_whenDispatcherIsConfigured() {
+            controlPlane.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(503)));
+            var failure = new CompletableFuture<Exception>();
+            var dataplane = Dataplane.newInstance().onPrepare(Result::success)
+                    .callbackDispatcher(CallbackDispatcher.newInstance().maxAttempts(3).initialBackoff(Duration.ofMillis(200)).build())
+                    .callbackFailureListener((dataFlowId, action, exception) -> failure.complete(exception))
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+            dataplane.prepare("controlplaneId", createPrepareMessage());
+
+            var result = dataplane.notifyCompleted("dataFlowId");
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(failure).isNotDone();
+            assertThat(dataplane.status("dataFlowId").getContent().state()).isEqualTo(COMPLETED.name());
+            assertThat(failure).succeedsWithin(Duration.ofSeconds(5)).isInstanceOf(DataFlowNotifyControlPlaneFailed.class);
+            controlPlane.verify(3, postRequestedFor(urlPathEqualTo("/transfers/dataFlowId/dataflow/completed")));
+        }
+
         @Test
         void shouldTransitionToCompleted_whenControlPlaneRespondCorrectly() {
             controlPlane.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200)));
@@ -149,6 +297,155 @@ class DataplaneTest {
                     ))
             );
         }
+
+        @Test
+        void shouldTerminate_whenCalledSynchronouslyFromOnStart() {
+            controlPlane.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200)));
+            var dataplane = Dataplane.newInstance()
+                    .onStart(dataFlow -> {
+                        dataFlow.transitionToStarting();
+                        return Result.success(dataFlow);
+                    })
+                    .build();
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+            dataplane.start("controlplaneId", createStartMessage());
+            var error = new IllegalStateException("provisioning failed");
+            var notified = new AtomicReference<Result<Void>>();
+
+            var result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> dataplane.notifyStarted("dataFlowId", dataFlow -> {
+                notified.set(dataplane.notifyErrored(dataFlow.getId(), error));
+                return Result.failure(error);
+            }));
+
+            assertThat(result.failed()).isTrue();
+            assertThat(notified.get().succeeded()).isTrue();
+            assertThat(dataplane.status("dataFlowId").getContent().state()).isEqualTo(TERMINATED.name());
+            controlPlane.verify(postRequestedFor(urlPathEqualTo("/transfers/dataFlowId/dataflow/errored"))
+                    .withRequestBody(matchingJsonPath("error", equalTo("provisioning failed"))));
+            controlPlane.verify(0, postRequestedFor(urlPathEqualTo("/transfers/dataFlowId/dataflow/started")));
+        }
+    }
+
+    @Nested
+    class StateTimeout {
+
+        @Test
+        void shouldTerminateOnceAndNotifyControlPlane_whenDeadlineExpires() {
+            controlPlane.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200)));
+            var terminations = new AtomicInteger();
+            var dataplane = Dataplane.newInstance()
+                    .onPrepare(dataFlow -> {
+                        dataFlow.transitionToPreparing();
+                        return Result.success(dataFlow);
+                    })
+                    .stateTimeout(PREPARING, Duration.ofMillis(200))
+                    .build();
+            dataplane.subscribe(event -> {
+                if (event.state() == TERMINATED) {
+                    terminations.incrementAndGet();
+                }
+            });
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+
+            dataplane.prepare("controlplaneId", createPrepareMessage());
+
+            await().untilAsserted(() -> controlPlane.verify(1, postRequestedFor(urlPathEqualTo("/transfers/dataFlowId/dataflow/errored"))));
+            await().during(Duration.ofMillis(300)).untilAsserted(() -> assertThat(terminations).hasValue(1));
+            assertThat(dataplane.status("dataFlowId").getContent().state()).isEqualTo(TERMINATED.name());
+        }
+    }
+
+    @Nested
+    class StateChanged {
+
+        @Test
+        void shouldPublishOnlyTransitions_withPreviousState() {
+            var events = new CopyOnWriteArrayList<DataFlowStateChanged>();
+            var dataplane = Dataplane.newInstance()
+                    .onPrepare(dataFlow -> {
+                        dataFlow.transitionToPreparing();
+                        return Result.success(dataFlow);
+                    })
+                    .build();
+            dataplane.subscribe(events::add);
+            dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("controlplaneId", URI.create("http://localhost/any")));
+
+            dataplane.prepare("controlplaneId", createPrepareMessage());
+            var dataFlow = dataplane.getById("dataFlowId").getContent();
+            assertThat(dataplane.save(dataFlow, PREPARING).succeeded()).isTrue();
+            assertThat(dataplane.save(dataFlow).succeeded()).isTrue();
+            dataFlow.transitionToPrepared();
+            assertThat(dataplane.save(dataFlow, PREPARING).succeeded()).isTrue();
+
+            await().untilAsserted(() -> assertThat(events).hasSize(2));
+            await().during(Duration.ofMillis(200)).untilAsserted(() -> assertThat(events).hasSize(2));
+            assertThat(events).extracting(DataFlowStateChanged::previousState).containsExactly(null, PREPARING);
+            assertThat(events).extracting(DataFlowStateChanged::state).containsExactly(PREPARING, PREPARED);
+        }
+    }
+
+    @Nested
+    class ExtractControlplaneId {
+
+        @Test
+        void shouldRouteHeaderToAuthorizationOfItsScheme_caseInsensitive() {
+            var dataplane = Dataplane.newInstance()
+                    .registerAuthorization(authorization("basic", "Basic", "basic-caller"))
+                    .registerAuthorization(authorization("bearer", "Bearer", "bearer-caller"))
+                    .build();
+
+            assertThat(dataplane.extractControlplaneId("Bearer token").getContent()).isEqualTo("bearer-caller");
+            assertThat(dataplane.extractControlplaneId("bearer token").getContent()).isEqualTo("bearer-caller");
+            assertThat(dataplane.extractControlplaneId("BASIC credentials").getContent()).isEqualTo("basic-caller");
+        }
+
+        @Test
+        void shouldFallBackToAuthorizationsWithoutScheme() {
+            var dataplane = Dataplane.newInstance()
+                    .registerAuthorization(authorization("bearer", "Bearer", "bearer-caller"))
+                    .registerAuthorization(authorization("custom", null, "custom-caller"))
+                    .build();
+
+            assertThat(dataplane.extractControlplaneId("Custom token").getContent()).isEqualTo("custom-caller");
+            assertThat(dataplane.extractControlplaneId("token-without-scheme").getContent()).isEqualTo("custom-caller");
+            assertThat(dataplane.extractControlplaneId("Bearer token").getContent()).isEqualTo("bearer-caller");
+        }
+
+        @Test
+        void shouldFail_whenSchemeIsUnknown() {
+            var dataplane = Dataplane.newInstance()
+                    .registerAuthorization(authorization("bearer", "Bearer", "bearer-caller"))
+                    .build();
+
+            var result = dataplane.extractControlplaneId("Digest credentials");
+
+            assertThat(result.failed()).isTrue();
+            assertThatThrownBy(result::orElseThrow).isExactlyInstanceOf(UnauthorizedException.class);
+        }
+
+        private Authorization authorization(String type, String scheme, String callerId) {
+            return new Authorization() {
+                @Override
+                public String type() {
+                    return type;
+                }
+
+                @Override
+                public String scheme() {
+                    return scheme;
+                }
+
+                @Override
+                public Result<String> authorizationHeader(AuthorizationProfile profile) {
+                    return Result.failure(new UnsupportedOperationException());
+                }
+
+                @Override
+                public Result<String> extractCallerId(String authorizationHeader) {
+                    return Result.success(callerId);
+                }
+            };
+        }
     }
 
     @Nested
@@ -198,4 +495,8 @@ class DataplaneTest {
     private DataFlowPrepareMessage createPrepareMessage() {
         return MessageFactory.createPrepareMessage("dataFlowId", URI.create(controlPlane.baseUrl()), "Something-PUSH");
     }
+
+    private DataFlowStartMessage createStartMessage() {
+        return MessageFactory.createStartMessage("dataFlowId", URI.create(controlPlane.baseUrl()), "Something-PUSH");
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.api;
+
+import io.restassured.http.ContentType;
+import org.eclipse.dataplane.Dataplane;
+import org.eclipse.dataplane.HttpServer;
+import org.eclipse.dataplane.authorization.TestAuthorization;
+import org.eclipse.dataplane.domain.Result;
+import org.eclipse.dataplane.domain.dataflow.DataFlowTerminateMessage;
+import org.eclipse.dataplane.domain.registration.ControlPlaneRegistrationMessage;
+import org.eclipse.dataplane.port.AdaptiveConcurrencyLimiter;
+import org.eclipse.dataplane.port.DataPlaneSignalingApiController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.dataplane.MessageFactory.createPrepareMessage;
+import static org.eclipse.dataplane.authorization.TestAuthorization.TOKEN_GENERATOR;
+
+class DataPlaneSignalingApiLoadSheddingTest {
+
+    private final HttpServer httpServer = new HttpServer();
+    private final CountDownLatch handlerReleased = new CountDownLatch(1);
+    private final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.newInstance()
+            .initialLimit(1)
+            .maxLimit(1)
+            .criticalHeadroom(1.0)
+            .retryAfter(Duration.ofSeconds(3))
+            .build();
+    private final Dataplane dataplane = Dataplane.newInstance()
+            .registerAuthorization(new TestAuthorization())
+            .onPrepare(dataFlow -> {
+                try {
+                    handlerReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Result.success(dataFlow);
+            })
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        httpServer.start();
+        httpServer.deploy("/data-plane", new DataPlaneSignalingApiController(dataplane, limiter));
+        dataplane.registerControlPlane(new ControlPlaneRegistrationMessage("control-plane-id", URI.create("http://localhost/any")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        handlerReleased.countDown();
+        httpServer.stop();
+    }
+
+    @Test
+    void shouldShedSheddableRequests_whileCriticalRequestsAreServed() {
+        var callbackAddress = URI.create("http://localhost/callback");
+        var first = CompletableFuture.supplyAsync(() -> prepare(createPrepareMessage("first", callbackAddress, "Something-PUSH")));
+        await().untilAsserted(() -> assertThat(limiter.inFlight()).isEqualTo(1));
+
+        given()
+                .contentType(ContentType.JSON)
+                .basePath("/data-plane")
+                .port(httpServer.port())
+                .header("Authorization", TOKEN_GENERATOR.apply("control-plane-id").getContent())
+                .body(createPrepareMessage("second", callbackAddress, "Something-PUSH"))
+                .post("/v1/dataflows/prepare")
+                .then()
+                .log().ifValidationFails()
+                .statusCode(503)
+                .header("Retry-After", "3");
+
+        given()
+                .contentType(ContentType.JSON)
+                .basePath("/data-plane")
+                .port(httpServer.port())
+                .body(new DataFlowTerminateMessage("message-id", "reason"))
+                .post("/v1/dataflows/unknown/terminate")
+                .then()
+                .log().ifValidationFails()
+                .statusCode(404);
+
+        handlerReleased.countDown();
+        assertThat(first).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(200);
+        assertThat(limiter.shed()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private int prepare(Object message) {
+        return given()
+                .contentType(ContentType.JSON)
+                .basePath("/data-plane")
+                .port(httpServer.port())
+                .header("Authorization", TOKEN_GENERATOR.apply("control-plane-id").getContent())
+                .body(message)
+                .post("/v1/dataflows/prepare")
+                .then()
+                .extract().statusCode();
+    }
+}
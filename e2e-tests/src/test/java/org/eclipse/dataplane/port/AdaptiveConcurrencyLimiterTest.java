@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataplane.port.AdaptiveConcurrencyLimiter.Priority.CRITICAL;
+import static org.eclipse.dataplane.port.AdaptiveConcurrencyLimiter.Priority.SHEDDABLE;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void shouldGrow_whenFastRequestsUseTheLimit() {
+        var limiter = AdaptiveConcurrencyLimiter.newInstance().initialLimit(4).latencyTolerance(1_000).build();
+        var first = limiter.acquire("prepare", SHEDDABLE).getContent();
+        var second = limiter.acquire("prepare", SHEDDABLE).getContent();
+        var third = limiter.acquire("prepare", SHEDDABLE).getContent();
+
+        first.release();
+        second.release();
+        third.release();
+
+        assertThat(limiter.limit()).isGreaterThan(4);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldBackOffOncePerRoundTrip_whenLatencyExceedsBaseline() throws InterruptedException {
+        var limiter = AdaptiveConcurrencyLimiter.newInstance().initialLimit(10).backoffRatio(0.5).build();
+        limiter.acquire("prepare", SHEDDABLE).getContent().release();
+        var slow = new AdaptiveConcurrencyLimiter.Permit[3];
+        for (var i = 0; i < slow.length; i++) {
+            slow[i] = limiter.acquire("prepare", SHEDDABLE).getContent();
+        }
+
+        Thread.sleep(50);
+        for (var permit : slow) {
+            permit.release();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldKeepBaselinePerOperation() throws InterruptedException {
+        var limiter = AdaptiveConcurrencyLimiter.newInstance().initialLimit(10).build();
+        limiter.acquire("completed", CRITICAL).getContent().release();
+
+        var prepare = limiter.acquire("prepare", SHEDDABLE).getContent();
+        Thread.sleep(20);
+        prepare.release();
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotSampleDiscardedRequests() throws InterruptedException {
+        var limiter = AdaptiveConcurrencyLimiter.newInstance().initialLimit(10).build();
+        limiter.acquire("prepare", SHEDDABLE).getContent().discard();
+
+        var prepare = limiter.acquire("prepare", SHEDDABLE).getContent();
+        Thread.sleep(20);
+        prepare.release();
+
+        assertThat(limiter.limit()).isEqualTo(10);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldAdmitCriticalRequestsWithinHeadroom_whenSheddableRequestsAreShed() {
+        var limiter = AdaptiveConcurrencyLimiter.newInstance().initialLimit(2).criticalHeadroom(0.5).build();
+        limiter.acquire("prepare", SHEDDABLE);
+        limiter.acquire("prepare", SHEDDABLE);
+
+        var sheddable = limiter.acquire("start", SHEDDABLE);
+        var critical = limiter.acquire("terminate", CRITICAL);
+        var exceedingHeadroom = limiter.acquire("terminate", CRITICAL);
+
+        assertThat(sheddable.failed()).isTrue();
+        assertThat(sheddable.getException()).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(critical.succeeded()).isTrue();
+        assertThat(exceedingHeadroom.failed()).isTrue();
+        assertThat(limiter.shed()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStayWithinBounds_whenReleasedConcurrently() throws InterruptedException {
+        var limiter = AdaptiveConcurrencyLimiter.newInstance().initialLimit(50).minLimit(5).maxLimit(100).baselineWindow(10).build();
+        var threads = new Thread[8];
+        for (var i = 0; i < threads.length; i++) {
+            var operation = i % 2 == 0 ? "prepare" : "terminate";
+            threads[i] = new Thread(() -> {
+                for (var j = 0; j < 10_000; j++) {
+                    limiter.acquire(operation, CRITICAL).onSuccess(AdaptiveConcurrencyLimiter.Permit::release);
+                }
+            });
+            threads[i].start();
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertThat(limiter.limit()).isBetween(5, 100);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldAdmitAll_whenUnlimited() {
+        var limiter = AdaptiveConcurrencyLimiter.unlimited();
+
+        for (var i = 0; i < 10_000; i++) {
+            assertThat(limiter.acquire("prepare", SHEDDABLE).succeeded()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer-Gesellschaft zur Förderung der angewandten Forschung e.V. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataplane.port;
+
+import org.eclipse.dataplane.Dataplane;
+import org.eclipse.dataplane.port.metrics.DataplaneMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataPlaneMetricsControllerTest {
+
+    private final Dataplane dataplane = Dataplane.newInstance().metrics(new DataplaneMetrics(Duration.ZERO)).build();
+    private final DataPlaneMetricsController controller = new DataPlaneMetricsController(dataplane);
+
+    @Test
+    void scrape_shouldFormatBucketBoundsAsPlainDecimals() {
+        dataplane.metrics().handler("onPrepare").latency().record(1_000_000);
+
+        var buckets = lines(controller.scrape(), "dataplane_handler_duration_seconds_bucket{handler=\"onPrepare\"");
+
+        assertThat(buckets).extracting(line -> line.substring(line.indexOf("le=\"") + 4, line.indexOf("\"}")))
+                .containsExactly("0.0001", "0.00025", "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05",
+                        "0.1", "0.25", "0.5", "1", "2.5", "5", "10", "+Inf");
+    }
+
+    @Test
+    void scrape_shouldReportInfBucketConsistentWithCount() {
+        var latency = dataplane.metrics().handler("onStart").latency();
+        latency.record(50_000);
+        latency.record(3_000_000);
+        latency.record(60_000_000_000L);
+
+        var output = controller.scrape();
+        var buckets = lines(output, "dataplane_handler_duration_seconds_bucket{handler=\"onStart\"");
+        var counts = buckets.stream().map(this::value).toList();
+        var count = value(lines(output, "dataplane_handler_duration_seconds_count{handler=\"onStart\"}").get(0));
+
+        assertThat(counts).isSorted();
+        assertThat(counts.get(counts.size() - 2)).isEqualTo(2);
+        assertThat(buckets.get(buckets.size() - 1)).contains("le=\"+Inf\"");
+        assertThat(counts.get(counts.size() - 1)).isEqualTo(count).isEqualTo(3);
+    }
+
+    @Test
+    void scrape_shouldEscapeLabelValues() {
+        dataplane.metrics().handler("on\"Quoted\"\\Back\nslash").latency().record(1_000);
+
+        var output = controller.scrape();
+
+        assertThat(output).contains("dataplane_handler_duration_seconds_count{handler=\"on\\\"Quoted\\\"\\\\Back\\nslash\"} 1\n")
+                .contains("dataplane_handler_failures_total{handler=\"on\\\"Quoted\\\"\\\\Back\\nslash\"} 0\n");
+        assertThat(Arrays.stream(output.split("\n"))).allMatch(line -> line.startsWith("#") || line.startsWith("dataplane_"));
+    }
+
+    private List<String> lines(String output, String prefix) {
+        return Arrays.stream(output.split("\n")).filter(line -> line.startsWith(prefix)).toList();
+    }
+
+    private long value(String line) {
+        return Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+    }
+}
@@ -8,6 +8,8 @@ dependencyResolutionManagement {
 
 include(":dataplane-sdk-core")
 include(":dataplane-sdk-jakarta-ee")
+include(":dataplane-sdk-sql")
 include(":dataplane-sdk-postgresql")
+include(":dataplane-sdk-opentelemetry")
 
 include(":e2e-tests")